@@ -21,6 +21,8 @@ public class ApiRequest {
 
   @NonNull private final String path;
 
+  private final String pathTemplate;
+
   @Builder.Default
   private final MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
 
@@ -37,9 +39,14 @@ public class ApiRequest {
 
   @Builder.Default private final Authentication authentication = new NoAuth();
 
+  public String getPathTemplate() {
+    return pathTemplate != null ? pathTemplate : path;
+  }
+
   public static class ApiRequestBuilder {
     private HttpMethod method;
     private String path;
+    private String pathTemplate;
     private MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
     private final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
     private Object body;
@@ -37,6 +37,7 @@ public class BjjEventsApiClient extends BaseApiClient {
     return execute(
         ApiRequest.builder()
             .delete(BjjEventEndpoints.bjjEventById(eventId))
+            .pathTemplate(BjjEventEndpoints.BJJ_EVENT_BY_ID)
             .authentication(auth)
             .build());
   }
@@ -21,6 +21,10 @@ public class GymsApiClient extends BaseApiClient {
 
   public Mono<ApiResponse> deleteGym(Authentication auth, String gymId) {
     return execute(
-        ApiRequest.builder().delete(GymEndpoints.gymById(gymId)).authentication(auth).build());
+        ApiRequest.builder()
+            .delete(GymEndpoints.gymById(gymId))
+            .pathTemplate(GymEndpoints.GYM_BY_ID)
+            .authentication(auth)
+            .build());
   }
 }
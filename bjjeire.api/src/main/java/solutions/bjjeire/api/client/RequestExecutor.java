@@ -1,51 +1,149 @@
 package solutions.bjjeire.api.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 import solutions.bjjeire.api.exceptions.ApiRequestException;
+import solutions.bjjeire.api.metrics.LatencyRegistry;
+import solutions.bjjeire.api.utils.BodyCapturePolicy;
 import solutions.bjjeire.api.utils.RetryPolicy;
 import solutions.bjjeire.api.validation.ApiResponse;
+import solutions.bjjeire.api.validation.ResponseValidatorFactory;
+import solutions.bjjeire.core.tracing.TestTracing;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RequestExecutor {
 
-  private static final int MAX_BODY_LOG_LENGTH = 1000;
+  public static final String LOAD_TRAFFIC_KEY = "bjjeire.api.loadTraffic";
+
+  private static final Meter.MeterProvider<Timer> REQUEST_TIMER =
+      Timer.builder("bjjeire.api.requests")
+          .description("API request latency")
+          .publishPercentileHistogram()
+          .withRegistry(Metrics.globalRegistry);
+  private static final AttributeKey<String> HTTP_REQUEST_METHOD =
+      AttributeKey.stringKey("http.request.method");
+  private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+  private static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+  private static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE =
+      AttributeKey.longKey("http.response.status_code");
+
   private final WebClient webClient;
   private final RetryPolicy retryPolicy;
   private final ObjectMapper objectMapper;
+  private final LatencyRegistry latencyRegistry;
+  private final BodyCapturePolicy bodyCapturePolicy;
+  private final ResponseValidatorFactory responseValidatorFactory;
 
   public Mono<ApiResponse> execute(ApiRequest request) {
-    long startTime = System.nanoTime();
-
-    return createRequestSpec(request)
-        .exchangeToMono(
-            clientResponse ->
-                clientResponse
-                    .toEntity(String.class)
-                    .map(
-                        responseEntity ->
-                            new ApiResponse(
-                                responseEntity,
-                                Duration.ofNanos(System.nanoTime() - startTime),
-                                objectMapper,
-                                request.getPath())))
-        .doOnSuccess(this::logApiInteraction)
-        .doOnError(error -> logApiFailure(request, error))
-        .retryWhen(retryPolicy.getRetrySpec(request.getPath(), request.getMethod()));
+    Context parentContext = Context.current();
+
+    return Mono.deferContextual(
+        contextView -> {
+          boolean loadTraffic = isLoadTraffic(contextView);
+          Mono<ApiResponse> attempt = attempt(request, parentContext, loadTraffic);
+          return loadTraffic
+              ? attempt
+              : attempt.retryWhen(retryPolicy.getRetrySpec(request.getPath(), request.getMethod()));
+        });
+  }
+
+  private Mono<ApiResponse> attempt(
+      ApiRequest request, Context parentContext, boolean loadTraffic) {
+    return Mono.defer(
+        () -> {
+          long startTime = System.nanoTime();
+          Span span = startClientSpan(request, parentContext);
+          return createRequestSpec(request, parentContext.with(span))
+              .exchangeToMono(
+                  clientResponse ->
+                      clientResponse
+                          .toEntity(byte[].class)
+                          .map(
+                              responseEntity -> {
+                                long elapsedNanos = System.nanoTime() - startTime;
+                                int statusCode = responseEntity.getStatusCode().value();
+                                if (!loadTraffic) {
+                                  latencyRegistry.record(
+                                      request.getMethod(), request.getPathTemplate(), elapsedNanos);
+                                }
+                                recordRequestMetric(
+                                    request,
+                                    loadTraffic,
+                                    String.valueOf(statusCode),
+                                    Outcome.forStatus(statusCode).name(),
+                                    "none",
+                                    elapsedNanos);
+                                span.setAttribute(HTTP_RESPONSE_STATUS_CODE, statusCode);
+                                if (statusCode >= 400) {
+                                  span.setStatus(StatusCode.ERROR);
+                                }
+                                return new ApiResponse(
+                                    responseEntity,
+                                    Duration.ofNanos(elapsedNanos),
+                                    objectMapper,
+                                    request.getPath(),
+                                    request.getMethod(),
+                                    request.getPathTemplate(),
+                                    responseValidatorFactory);
+                              }))
+              .doOnSuccess(this::logApiInteraction)
+              .doOnError(
+                  error -> {
+                    recordRequestMetric(
+                        request,
+                        loadTraffic,
+                        "CLIENT_ERROR",
+                        Outcome.UNKNOWN.name(),
+                        error.getClass().getSimpleName(),
+                        System.nanoTime() - startTime);
+                    span.recordException(error);
+                    span.setStatus(StatusCode.ERROR);
+                    logApiFailure(request, error);
+                  })
+              .doFinally(signal -> span.end());
+        });
   }
 
-  private WebClient.RequestHeadersSpec<?> createRequestSpec(ApiRequest request) {
+  private static boolean isLoadTraffic(ContextView contextView) {
+    return contextView.getOrDefault(LOAD_TRAFFIC_KEY, false);
+  }
+
+  private Span startClientSpan(ApiRequest request, Context parentContext) {
+    return TestTracing.tracer()
+        .spanBuilder(request.getMethod().name() + " " + request.getPathTemplate())
+        .setParent(parentContext)
+        .setSpanKind(SpanKind.CLIENT)
+        .setAttribute(HTTP_REQUEST_METHOD, request.getMethod().name())
+        .setAttribute(HTTP_ROUTE, request.getPathTemplate())
+        .setAttribute(URL_PATH, request.getPath())
+        .startSpan();
+  }
+
+  private WebClient.RequestHeadersSpec<?> createRequestSpec(
+      ApiRequest request, Context traceContext) {
     WebClient.RequestBodySpec requestBodySpec =
         webClient
             .method(request.getMethod())
@@ -61,6 +159,10 @@ public class RequestExecutor {
                   if (request.getAuthentication() != null) {
                     request.getAuthentication().apply(headers);
                   }
+                  TestTracing.openTelemetry()
+                      .getPropagators()
+                      .getTextMapPropagator()
+                      .inject(traceContext, headers, HttpHeaders::set);
                 })
             .accept(request.getAcceptableMediaTypes().toArray(new MediaType[0]));
 
@@ -97,13 +199,40 @@ public class RequestExecutor {
     return requestBodySpec.contentType(contentType).bodyValue(body);
   }
 
+  private void recordRequestMetric(
+      ApiRequest request,
+      boolean loadTraffic,
+      String status,
+      String outcome,
+      String exception,
+      long elapsedNanos) {
+    REQUEST_TIMER
+        .withTags(
+            "traffic",
+            loadTraffic ? "load" : "functional",
+            "method",
+            request.getMethod().name(),
+            "uri",
+            request.getPathTemplate(),
+            "status",
+            status,
+            "outcome",
+            outcome,
+            "exception",
+            exception)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
   private void logApiInteraction(ApiResponse response) {
+    if (!log.isInfoEnabled()) {
+      return;
+    }
     log.info(
         "API Interaction",
         StructuredArguments.kv("eventType", "api_interaction"),
         StructuredArguments.kv("url", response.getRequestPath()),
         StructuredArguments.kv("response_status_code", response.getStatusCode()),
-        StructuredArguments.kv("response_body", truncateBody(response.getBodyAsString())),
+        StructuredArguments.kv("response_body", bodyCapturePolicy.capture(response)),
         StructuredArguments.kv("duration_ms", response.getExecutionTime().toMillis()));
   }
 
@@ -116,11 +245,4 @@ public class RequestExecutor {
         StructuredArguments.kv("error", error.getMessage()),
         error);
   }
-
-  private String truncateBody(String body) {
-    if (body == null) return null;
-    return body.length() > MAX_BODY_LOG_LENGTH
-        ? body.substring(0, MAX_BODY_LOG_LENGTH) + "..."
-        : body;
-  }
 }
@@ -1,6 +1,10 @@
 package solutions.bjjeire.api.config;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.util.List;
@@ -8,6 +12,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
+import reactor.netty.http.HttpProtocol;
 
 @ConfigurationProperties(prefix = "api-settings")
 @Getter
@@ -33,4 +38,76 @@ public class ApiSettings {
   private List<String> sensitiveFields;
   private String serviceName;
   private String environment;
+  private String latencyReportFile;
+
+  @Positive(message = "Schema cache max size must be positive")
+  private int schemaCacheMaxSize = 256;
+
+  private boolean prewarmSchemas;
+
+  @PositiveOrZero(message = "Token refresh skew must be zero or positive")
+  private long tokenRefreshSkewSeconds = 60;
+
+  @NotEmpty(message = "At least one HTTP protocol must be configured")
+  private List<HttpProtocol> httpProtocols = List.of(HttpProtocol.HTTP11);
+
+  @Positive(message = "HTTP/2 max concurrent streams must be positive")
+  private long http2MaxConcurrentStreams = 100;
+
+  private boolean compressionEnabled;
+
+  @Valid private ConnectionPoolSettings connectionPool = new ConnectionPoolSettings();
+
+  @Valid private BodyCaptureSettings bodyCapture = new BodyCaptureSettings();
+
+  @Getter
+  @Setter
+  public static class ConnectionPoolSettings {
+
+    @NotBlank(message = "Connection pool name must not be blank")
+    private String name = "bjjeire-api";
+
+    @Positive(message = "Max connections must be positive")
+    private int maxConnections = 500;
+
+    @Positive(message = "Pending acquire max count must be positive")
+    private int pendingAcquireMaxCount = 1000;
+
+    @Positive(message = "Pending acquire timeout must be positive")
+    private long pendingAcquireTimeoutMillis = 45000;
+
+    @Positive(message = "Max idle time must be positive")
+    private long maxIdleTimeMillis = 30000;
+
+    @Positive(message = "Max life time must be positive")
+    private long maxLifeTimeMillis = 300000;
+
+    @PositiveOrZero(message = "Evict in background interval must be zero or positive")
+    private long evictInBackgroundMillis = 0;
+
+    private LeasingStrategy leasingStrategy = LeasingStrategy.FIFO;
+
+    private boolean metricsEnabled = true;
+  }
+
+  @Getter
+  @Setter
+  public static class BodyCaptureSettings {
+
+    private boolean enabled = true;
+
+    @DecimalMin(value = "0.0", message = "Body capture sample rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Body capture sample rate must be between 0 and 1")
+    private double sampleRate = 1.0;
+
+    private boolean captureOnFailureOnly;
+
+    @Positive(message = "Body capture max bytes must be positive")
+    private int maxBytes = 1000;
+  }
+
+  public enum LeasingStrategy {
+    FIFO,
+    LIFO
+  }
 }
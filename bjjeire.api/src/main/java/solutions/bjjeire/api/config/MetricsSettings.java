@@ -0,0 +1,61 @@
+package solutions.bjjeire.api.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "metrics-settings")
+@Getter
+@Setter
+@Validated
+public class MetricsSettings {
+
+  private boolean enabled;
+
+  @NotNull(message = "Metrics export mode must be set")
+  private ExportMode exportMode = ExportMode.SCRAPE;
+
+  @PositiveOrZero(message = "Scrape port must be zero or positive")
+  @Max(value = 65535, message = "Scrape port must not exceed 65535")
+  private int scrapePort = 9464;
+
+  @NotBlank(message = "Scrape path must not be blank")
+  private String scrapePath = "/metrics";
+
+  @NotBlank(message = "Textfile path must not be blank")
+  private String textfilePath = "target/metrics/bjjeire.prom";
+
+  @Positive(message = "Textfile write interval must be positive")
+  private long textfileIntervalSeconds = 15;
+
+  private Map<String, String> commonTags = new LinkedHashMap<>();
+
+  @Valid private TimingReportSettings timingReport = new TimingReportSettings();
+
+  @Getter
+  @Setter
+  public static class TimingReportSettings {
+
+    private boolean enabled = true;
+
+    @NotBlank(message = "Timing report file must not be blank")
+    private String file = "target/timing-report.json";
+
+    @Positive(message = "Timing report top N must be positive")
+    private int topN = 10;
+  }
+
+  public enum ExportMode {
+    SCRAPE,
+    TEXTFILE
+  }
+}
@@ -14,7 +14,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 @ComponentScan(basePackages = "solutions.bjjeire")
-@EnableConfigurationProperties({ApiSettings.class})
+@EnableConfigurationProperties({ApiSettings.class, MetricsSettings.class, TracingSettings.class})
 public class TestConfiguration {
 
   @Bean
@@ -0,0 +1,32 @@
+package solutions.bjjeire.api.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "tracing-settings")
+@Getter
+@Setter
+@Validated
+public class TracingSettings {
+
+  private boolean enabled;
+
+  @NotBlank(message = "Tracing service name must not be blank")
+  private String serviceName = "bjjeire-tests";
+
+  @NotBlank(message = "Span export file must not be blank")
+  private String exportFile = "target/traces/spans.jsonl";
+
+  @DecimalMin(value = "0.0", message = "Tracing sample ratio must be between 0 and 1")
+  @DecimalMax(value = "1.0", message = "Tracing sample ratio must be between 0 and 1")
+  private double sampleRatio = 1.0;
+
+  @Positive(message = "Span export delay must be positive")
+  private long exportDelayMillis = 2000;
+}
@@ -14,7 +14,11 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import solutions.bjjeire.api.metrics.ConnectionPoolMonitor;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ public class WebClientConfig {
 
   private final ApiSettings settings;
   private final ObjectMapper objectMapper;
+  private final ConnectionPoolMonitor connectionPoolMonitor;
   private final int BUFFER_SIZE = 16 * 1024 * 1024;
 
   public WebClient buildWebClient(WebClient.Builder webClientBuilder) {
@@ -43,17 +48,23 @@ public class WebClientConfig {
             .build();
 
     HttpClient httpClient =
-        HttpClient.create()
+        HttpClient.create(buildConnectionProvider())
+            .mapConnect(connectionPoolMonitor::timeAcquire)
+            .protocol(settings.getHttpProtocols().toArray(new HttpProtocol[0]))
+            .compress(settings.isCompressionEnabled())
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, settings.getConnectTimeoutMillis())
-            .responseTimeout(Duration.ofMillis(settings.getResponseTimeoutMillis()))
-            .doOnConnected(
-                conn ->
-                    conn.addHandlerLast(
-                            new ReadTimeoutHandler(
-                                settings.getResponseTimeoutMillis(), TimeUnit.MILLISECONDS))
-                        .addHandlerLast(
-                            new WriteTimeoutHandler(
-                                settings.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)));
+            .responseTimeout(Duration.ofMillis(settings.getResponseTimeoutMillis()));
+    if (!usesHttp2()) {
+      httpClient =
+          httpClient.doOnConnected(
+              conn ->
+                  conn.addHandlerLast(
+                          new ReadTimeoutHandler(
+                              settings.getResponseTimeoutMillis(), TimeUnit.MILLISECONDS))
+                      .addHandlerLast(
+                          new WriteTimeoutHandler(
+                              settings.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)));
+    }
 
     return webClientBuilder
         .baseUrl(settings.getBaseUrl())
@@ -61,4 +72,40 @@ public class WebClientConfig {
         .exchangeStrategies(strategies)
         .build();
   }
+
+  private ConnectionProvider buildConnectionProvider() {
+    ApiSettings.ConnectionPoolSettings pool = settings.getConnectionPool();
+
+    ConnectionProvider.Builder builder =
+        ConnectionProvider.builder(pool.getName())
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMillis()))
+            .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMillis()))
+            .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMillis()))
+            .evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMillis()))
+            .metrics(pool.isMetricsEnabled(), () -> connectionPoolMonitor);
+
+    if (usesHttp2()) {
+      builder.allocationStrategy(
+          Http2AllocationStrategy.builder()
+              .maxConnections(pool.getMaxConnections())
+              .maxConcurrentStreams(settings.getHttp2MaxConcurrentStreams())
+              .minConnections(1)
+              .build());
+    }
+
+    if (pool.getLeasingStrategy() == ApiSettings.LeasingStrategy.LIFO) {
+      builder.lifo();
+    } else {
+      builder.fifo();
+    }
+
+    return builder.build();
+  }
+
+  private boolean usesHttp2() {
+    return settings.getHttpProtocols().stream()
+        .anyMatch(protocol -> protocol == HttpProtocol.H2 || protocol == HttpProtocol.H2C);
+  }
 }
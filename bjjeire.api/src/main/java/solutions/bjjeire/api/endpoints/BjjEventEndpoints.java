@@ -3,6 +3,7 @@ package solutions.bjjeire.api.endpoints;
 public final class BjjEventEndpoints {
 
   public static final String BJJ_EVENTS = "/api/bjjevent";
+  public static final String BJJ_EVENT_BY_ID = BJJ_EVENTS + "/{id}";
 
   public static String bjjEventById(String eventId) {
     return BJJ_EVENTS + "/" + eventId;
@@ -3,6 +3,7 @@ package solutions.bjjeire.api.endpoints;
 public final class GymEndpoints {
 
   public static final String GYMS = "/api/gym";
+  public static final String GYM_BY_ID = GYMS + "/{id}";
 
   public static String gymById(String gymId) {
     return GYMS + "/" + gymId;
@@ -3,7 +3,18 @@ package solutions.bjjeire.api.exceptions;
 import java.io.IOException;
 
 public class NotSuccessfulRequestException extends IOException {
+  private final int statusCode;
+
   public NotSuccessfulRequestException(String message) {
+    this(message, -1);
+  }
+
+  public NotSuccessfulRequestException(String message, int statusCode) {
     super(message);
+    this.statusCode = statusCode;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
   }
 }
@@ -0,0 +1,14 @@
+package solutions.bjjeire.api.load;
+
+import java.time.Duration;
+
+public record EndpointLoadReport(
+    String endpoint,
+    long requests,
+    long errors,
+    double throughputPerSecond,
+    double errorRate,
+    Duration p50,
+    Duration p90,
+    Duration p99,
+    Duration max) {}
@@ -0,0 +1,41 @@
+package solutions.bjjeire.api.load;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import solutions.bjjeire.api.metrics.LatencyHistogram;
+
+class EndpointStatistics {
+
+  private final String endpoint;
+  private final LatencyHistogram latencies = new LatencyHistogram();
+  private final LongAdder errors = new LongAdder();
+
+  EndpointStatistics(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  void record(long latencyNanos, boolean error) {
+    latencies.record(latencyNanos);
+    if (error) {
+      errors.increment();
+    }
+  }
+
+  EndpointLoadReport toReport(Duration elapsed) {
+    Histogram histogram = latencies.snapshot();
+    long count = histogram.getTotalCount();
+    long errorCount = errors.sum();
+    double seconds = elapsed.toNanos() / 1_000_000_000d;
+    return new EndpointLoadReport(
+        endpoint,
+        count,
+        errorCount,
+        seconds > 0 ? count / seconds : 0,
+        count > 0 ? (double) errorCount / count : 0,
+        LatencyHistogram.valueAtPercentile(histogram, 50),
+        LatencyHistogram.valueAtPercentile(histogram, 90),
+        LatencyHistogram.valueAtPercentile(histogram, 99),
+        LatencyHistogram.valueAtPercentile(histogram, 100));
+  }
+}
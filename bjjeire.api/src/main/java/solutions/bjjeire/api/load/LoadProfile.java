@@ -0,0 +1,81 @@
+package solutions.bjjeire.api.load;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+@Getter
+@Builder(toBuilder = true)
+public class LoadProfile {
+
+  private final double startRatePerSecond;
+
+  private final double targetRatePerSecond;
+
+  @NonNull @Builder.Default private final Duration rampUp = Duration.ZERO;
+
+  @NonNull private final Duration holdFor;
+
+  @Builder.Default private final int maxConcurrency = 256;
+
+  public static LoadProfile fixed(double ratePerSecond, Duration holdFor) {
+    return LoadProfile.builder()
+        .startRatePerSecond(ratePerSecond)
+        .targetRatePerSecond(ratePerSecond)
+        .holdFor(holdFor)
+        .build();
+  }
+
+  public static LoadProfile ramping(
+      double startRatePerSecond, double targetRatePerSecond, Duration rampUp, Duration holdFor) {
+    return LoadProfile.builder()
+        .startRatePerSecond(startRatePerSecond)
+        .targetRatePerSecond(targetRatePerSecond)
+        .rampUp(rampUp)
+        .holdFor(holdFor)
+        .build();
+  }
+
+  public Duration totalDuration() {
+    return rampUp.plus(holdFor);
+  }
+
+  long rampArrivals() {
+    return (long) Math.floor((startRatePerSecond + targetRatePerSecond) / 2 * seconds(rampUp));
+  }
+
+  Duration rampArrivalOffset(long arrival) {
+    double rampSeconds = seconds(rampUp);
+    double acceleration = (targetRatePerSecond - startRatePerSecond) / (2 * rampSeconds);
+    double discriminant = startRatePerSecond * startRatePerSecond + 4 * acceleration * arrival;
+    double offsetSeconds = 2 * arrival / (startRatePerSecond + Math.sqrt(discriminant));
+    return Duration.ofNanos((long) (offsetSeconds * 1_000_000_000d));
+  }
+
+  long holdArrivals() {
+    return (long) Math.floor(targetRatePerSecond * seconds(holdFor));
+  }
+
+  Duration holdSpacing() {
+    return Duration.ofNanos((long) (1_000_000_000d / targetRatePerSecond));
+  }
+
+  void validate() {
+    if (startRatePerSecond < 0 || targetRatePerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "Arrival rates must be positive (start may be zero when ramping).");
+    }
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("Max concurrency must be positive.");
+    }
+    if (rampArrivals() + holdArrivals() <= 0) {
+      throw new IllegalArgumentException(
+          "Load profile must schedule at least one arrival over its duration.");
+    }
+  }
+
+  private static double seconds(Duration duration) {
+    return duration.toNanos() / 1_000_000_000d;
+  }
+}
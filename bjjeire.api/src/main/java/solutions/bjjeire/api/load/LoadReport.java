@@ -0,0 +1,26 @@
+package solutions.bjjeire.api.load;
+
+import java.time.Duration;
+import java.util.List;
+
+public record LoadReport(
+    Duration elapsed, long scheduled, long dropped, List<EndpointLoadReport> endpoints) {
+
+  public long totalRequests() {
+    return endpoints.stream().mapToLong(EndpointLoadReport::requests).sum();
+  }
+
+  public long totalErrors() {
+    return endpoints.stream().mapToLong(EndpointLoadReport::errors).sum();
+  }
+
+  public double throughputPerSecond() {
+    double seconds = elapsed.toNanos() / 1_000_000_000d;
+    return seconds > 0 ? totalRequests() / seconds : 0;
+  }
+
+  public double errorRate() {
+    long requests = totalRequests();
+    return requests > 0 ? (double) totalErrors() / requests : 0;
+  }
+}
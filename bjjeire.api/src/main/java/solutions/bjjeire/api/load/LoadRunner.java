@@ -0,0 +1,163 @@
+package solutions.bjjeire.api.load;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import solutions.bjjeire.api.client.ApiRequest;
+import solutions.bjjeire.api.client.RequestExecutor;
+import solutions.bjjeire.api.validation.ApiResponse;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadRunner {
+
+  private final RequestExecutor requestExecutor;
+
+  public Mono<LoadReport> run(LoadProfile profile, Supplier<ApiRequest> requestSupplier) {
+    return execute(
+        profile,
+        () -> {
+          ApiRequest request = requestSupplier.get();
+          return new LoadCall(
+              request.getMethod().name() + " " + request.getPathTemplate(),
+              requestExecutor.execute(request));
+        });
+  }
+
+  public Mono<LoadReport> run(
+      LoadProfile profile, String scenarioName, Supplier<Mono<ApiResponse>> call) {
+    return execute(profile, () -> new LoadCall(scenarioName, call.get()));
+  }
+
+  private Mono<LoadReport> execute(LoadProfile profile, Supplier<LoadCall> calls) {
+    profile.validate();
+
+    return Mono.defer(
+            () -> {
+              Map<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+              AtomicLong scheduled = new AtomicLong();
+              AtomicLong dropped = new AtomicLong();
+              long startTime = System.nanoTime();
+
+              log.info(
+                  "Load run started",
+                  StructuredArguments.kv("eventType", "load_run_start"),
+                  StructuredArguments.kv("start_rate_per_second", profile.getStartRatePerSecond()),
+                  StructuredArguments.kv(
+                      "target_rate_per_second", profile.getTargetRatePerSecond()),
+                  StructuredArguments.kv("duration_seconds", profile.totalDuration().toSeconds()),
+                  StructuredArguments.kv("max_concurrency", profile.getMaxConcurrency()));
+
+              return arrivals(profile)
+                  .doOnNext(tick -> scheduled.incrementAndGet())
+                  .onBackpressureDrop(tick -> dropped.incrementAndGet())
+                  .flatMap(tick -> invoke(calls, statistics), profile.getMaxConcurrency())
+                  .then(
+                      Mono.fromSupplier(
+                          () ->
+                              buildReport(
+                                  Duration.ofNanos(System.nanoTime() - startTime),
+                                  scheduled.get(),
+                                  dropped.get(),
+                                  statistics)));
+            })
+        .doOnSuccess(this::logReport);
+  }
+
+  private Flux<Long> arrivals(LoadProfile profile) {
+    return Flux.defer(
+        () -> {
+          long startTime = System.nanoTime();
+          Flux<Long> ramp =
+              Flux.range(1, (int) profile.rampArrivals())
+                  .concatMap(
+                      arrival ->
+                          Mono.delay(remaining(startTime, profile.rampArrivalOffset(arrival))));
+          Flux<Long> hold =
+              Flux.defer(
+                  () ->
+                      Flux.interval(
+                              remaining(startTime, profile.getRampUp().plus(profile.holdSpacing())),
+                              profile.holdSpacing())
+                          .take(profile.holdArrivals()));
+          return ramp.concatWith(hold);
+        });
+  }
+
+  private static Duration remaining(long startTime, Duration offset) {
+    return Duration.ofNanos(Math.max(0, offset.toNanos() - (System.nanoTime() - startTime)));
+  }
+
+  private Mono<Void> invoke(Supplier<LoadCall> calls, Map<String, EndpointStatistics> statistics) {
+    return Mono.defer(
+        () -> {
+          LoadCall call = calls.get();
+          EndpointStatistics endpointStatistics =
+              statistics.computeIfAbsent(call.endpoint(), EndpointStatistics::new);
+          long startTime = System.nanoTime();
+          return call.response()
+              .contextWrite(Context.of(RequestExecutor.LOAD_TRAFFIC_KEY, true))
+              .doOnNext(
+                  response ->
+                      endpointStatistics.record(
+                          System.nanoTime() - startTime, response.getStatusCode() >= 400))
+              .doOnError(error -> endpointStatistics.record(System.nanoTime() - startTime, true))
+              .onErrorResume(error -> Mono.empty())
+              .then();
+        });
+  }
+
+  private LoadReport buildReport(
+      Duration elapsed, long scheduled, long dropped, Map<String, EndpointStatistics> statistics) {
+    return new LoadReport(
+        elapsed,
+        scheduled,
+        dropped,
+        statistics.values().stream()
+            .map(endpointStatistics -> endpointStatistics.toReport(elapsed))
+            .sorted(Comparator.comparing(EndpointLoadReport::endpoint))
+            .toList());
+  }
+
+  private void logReport(LoadReport report) {
+    log.info(
+        "Load run completed",
+        StructuredArguments.kv("eventType", "load_run_summary"),
+        StructuredArguments.kv("elapsed_ms", report.elapsed().toMillis()),
+        StructuredArguments.kv("scheduled", report.scheduled()),
+        StructuredArguments.kv("dropped", report.dropped()),
+        StructuredArguments.kv("requests", report.totalRequests()),
+        StructuredArguments.kv("throughput_per_second", report.throughputPerSecond()),
+        StructuredArguments.kv("error_rate", report.errorRate()));
+
+    report
+        .endpoints()
+        .forEach(
+            endpoint ->
+                log.info(
+                    "Load run endpoint statistics",
+                    StructuredArguments.kv("eventType", "load_run_endpoint"),
+                    StructuredArguments.kv("endpoint", endpoint.endpoint()),
+                    StructuredArguments.kv("requests", endpoint.requests()),
+                    StructuredArguments.kv("errors", endpoint.errors()),
+                    StructuredArguments.kv("throughput_per_second", endpoint.throughputPerSecond()),
+                    StructuredArguments.kv("error_rate", endpoint.errorRate()),
+                    StructuredArguments.kv("p50_ms", endpoint.p50().toMillis()),
+                    StructuredArguments.kv("p90_ms", endpoint.p90().toMillis()),
+                    StructuredArguments.kv("p99_ms", endpoint.p99().toMillis()),
+                    StructuredArguments.kv("max_ms", endpoint.max().toMillis())));
+  }
+
+  private record LoadCall(String endpoint, Mono<ApiResponse> response) {}
+}
@@ -0,0 +1,110 @@
+package solutions.bjjeire.api.metrics;
+
+import jakarta.annotation.PostConstruct;
+import java.net.SocketAddress;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import solutions.bjjeire.core.utilities.ShutdownManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolMonitor implements ConnectionProvider.MeterRegistrar {
+
+  private final Map<PoolKey, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+  private final LatencyHistogram acquireTime = new LatencyHistogram();
+
+  private final ShutdownManager shutdownManager;
+
+  @PostConstruct
+  void registerSummaryOnShutdown() {
+    shutdownManager.register(this::logSummary);
+  }
+
+  @Override
+  public void registerMetrics(
+      String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+    pools.put(new PoolKey(poolName, id, String.valueOf(remoteAddress)), metrics);
+  }
+
+  @Override
+  public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+    pools.remove(new PoolKey(poolName, id, String.valueOf(remoteAddress)));
+  }
+
+  public Mono<? extends Connection> timeAcquire(Mono<? extends Connection> acquire) {
+    return Mono.defer(
+        () -> {
+          long startTime = System.nanoTime();
+          return acquire.doOnNext(connection -> acquireTime.record(System.nanoTime() - startTime));
+        });
+  }
+
+  public List<ConnectionPoolSnapshot> snapshot() {
+    return pools.entrySet().stream()
+        .map(
+            entry -> {
+              ConnectionPoolMetrics metrics = entry.getValue();
+              return new ConnectionPoolSnapshot(
+                  entry.getKey().poolName(),
+                  entry.getKey().remoteAddress(),
+                  metrics.acquiredSize(),
+                  metrics.idleSize(),
+                  metrics.pendingAcquireSize(),
+                  metrics.allocatedSize(),
+                  metrics.maxAllocatedSize(),
+                  metrics.maxPendingAcquireSize());
+            })
+        .sorted(Comparator.comparing(ConnectionPoolSnapshot::remoteAddress))
+        .toList();
+  }
+
+  public Histogram acquireTimeHistogram() {
+    return acquireTime.snapshot();
+  }
+
+  private void logSummary() {
+    Histogram histogram = acquireTimeHistogram();
+    if (histogram.getTotalCount() == 0) {
+      return;
+    }
+
+    log.info(
+        "Connection pool acquire time summary",
+        StructuredArguments.kv("eventType", "connection_pool_acquire_summary"),
+        StructuredArguments.kv("count", histogram.getTotalCount()),
+        StructuredArguments.kv(
+            "p50_ms", LatencyHistogram.valueAtPercentile(histogram, 50).toMillis()),
+        StructuredArguments.kv(
+            "p99_ms", LatencyHistogram.valueAtPercentile(histogram, 99).toMillis()),
+        StructuredArguments.kv(
+            "max_ms", LatencyHistogram.valueAtPercentile(histogram, 100).toMillis()));
+
+    snapshot()
+        .forEach(
+            pool ->
+                log.info(
+                    "Connection pool state",
+                    StructuredArguments.kv("eventType", "connection_pool_state"),
+                    StructuredArguments.kv("pool_name", pool.poolName()),
+                    StructuredArguments.kv("remote_address", pool.remoteAddress()),
+                    StructuredArguments.kv("active", pool.active()),
+                    StructuredArguments.kv("idle", pool.idle()),
+                    StructuredArguments.kv("pending_acquires", pool.pendingAcquires()),
+                    StructuredArguments.kv("allocated", pool.allocated()),
+                    StructuredArguments.kv("max_connections", pool.maxConnections())));
+  }
+
+  private record PoolKey(String poolName, String id, String remoteAddress) {}
+}
@@ -0,0 +1,11 @@
+package solutions.bjjeire.api.metrics;
+
+public record ConnectionPoolSnapshot(
+    String poolName,
+    String remoteAddress,
+    int active,
+    int idle,
+    int pendingAcquires,
+    int allocated,
+    int maxConnections,
+    int maxPendingAcquires) {}
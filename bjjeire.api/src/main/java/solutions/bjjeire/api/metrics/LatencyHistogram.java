@@ -0,0 +1,38 @@
+package solutions.bjjeire.api.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+public class LatencyHistogram {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+  private final Histogram accumulated = emptyHistogram();
+  private Histogram interval;
+
+  public void record(long durationNanos) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    recorder.recordValue(Math.max(1, Math.min(micros, HIGHEST_TRACKABLE_MICROS)));
+  }
+
+  public synchronized Histogram snapshot() {
+    interval = recorder.getIntervalHistogram(interval);
+    accumulated.add(interval);
+    return accumulated.copy();
+  }
+
+  public static Histogram emptyHistogram() {
+    return new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+  }
+
+  public static Duration valueAtPercentile(Histogram histogram, double percentile) {
+    return histogram.getTotalCount() == 0
+        ? Duration.ZERO
+        : Duration.ofNanos(
+            TimeUnit.MICROSECONDS.toNanos(histogram.getValueAtPercentile(percentile)));
+  }
+}
@@ -0,0 +1,143 @@
+package solutions.bjjeire.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.config.ApiSettings;
+import solutions.bjjeire.core.utilities.ShutdownManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LatencyRegistry {
+
+  private final Map<HttpMethod, Map<String, LatencyHistogram>> histograms =
+      new ConcurrentHashMap<>();
+
+  private final ApiSettings apiSettings;
+  private final ShutdownManager shutdownManager;
+  private final ObjectMapper objectMapper;
+
+  @PostConstruct
+  void registerSummaryOnShutdown() {
+    shutdownManager.register(this::publishSummary);
+  }
+
+  public void record(HttpMethod method, String pathTemplate, long durationNanos) {
+    recorderFor(method, pathTemplate).record(durationNanos);
+  }
+
+  public List<LatencySnapshot> snapshot() {
+    List<LatencySnapshot> snapshots = new ArrayList<>();
+    histograms.forEach(
+        (method, byTemplate) ->
+            byTemplate.forEach(
+                (pathTemplate, histogram) ->
+                    snapshots.add(
+                        LatencySnapshot.of(method.name(), pathTemplate, histogram.snapshot()))));
+    snapshots.sort(
+        Comparator.comparing(LatencySnapshot::pathTemplate).thenComparing(LatencySnapshot::method));
+    return snapshots;
+  }
+
+  public Histogram histogram(HttpMethod method, String pathTemplate) {
+    Map<String, LatencyHistogram> byTemplate = histograms.get(method);
+    LatencyHistogram histogram = byTemplate != null ? byTemplate.get(pathTemplate) : null;
+    return histogram != null ? histogram.snapshot() : LatencyHistogram.emptyHistogram();
+  }
+
+  public Histogram suiteHistogram() {
+    Histogram combined = LatencyHistogram.emptyHistogram();
+    histograms
+        .values()
+        .forEach(byTemplate -> byTemplate.values().forEach(h -> combined.add(h.snapshot())));
+    return combined;
+  }
+
+  private LatencyHistogram recorderFor(HttpMethod method, String pathTemplate) {
+    Map<String, LatencyHistogram> byTemplate = histograms.get(method);
+    if (byTemplate == null) {
+      byTemplate = histograms.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+    }
+    LatencyHistogram histogram = byTemplate.get(pathTemplate);
+    if (histogram == null) {
+      histogram = byTemplate.computeIfAbsent(pathTemplate, key -> new LatencyHistogram());
+    }
+    return histogram;
+  }
+
+  private void publishSummary() {
+    List<LatencySnapshot> snapshots = snapshot();
+    if (snapshots.isEmpty()) {
+      return;
+    }
+
+    snapshots.forEach(
+        snapshot ->
+            log.info(
+                "API latency summary",
+                StructuredArguments.kv("eventType", "api_latency_summary"),
+                StructuredArguments.kv("method", snapshot.method()),
+                StructuredArguments.kv("path_template", snapshot.pathTemplate()),
+                StructuredArguments.kv("count", snapshot.count()),
+                StructuredArguments.kv("p50_ms", snapshot.p50().toMillis()),
+                StructuredArguments.kv("p90_ms", snapshot.p90().toMillis()),
+                StructuredArguments.kv("p99_ms", snapshot.p99().toMillis()),
+                StructuredArguments.kv("p999_ms", snapshot.p999().toMillis()),
+                StructuredArguments.kv("max_ms", snapshot.max().toMillis())));
+
+    String reportFile = apiSettings.getLatencyReportFile();
+    if (reportFile != null && !reportFile.isBlank()) {
+      writeReport(Path.of(reportFile), snapshots);
+    }
+  }
+
+  private void writeReport(Path reportFile, List<LatencySnapshot> snapshots) {
+    List<Map<String, Object>> entries =
+        snapshots.stream()
+            .map(
+                snapshot -> {
+                  Map<String, Object> entry = new LinkedHashMap<>();
+                  entry.put("method", snapshot.method());
+                  entry.put("pathTemplate", snapshot.pathTemplate());
+                  entry.put("count", snapshot.count());
+                  entry.put("p50Ms", snapshot.p50().toNanos() / 1_000_000d);
+                  entry.put("p90Ms", snapshot.p90().toNanos() / 1_000_000d);
+                  entry.put("p99Ms", snapshot.p99().toNanos() / 1_000_000d);
+                  entry.put("p999Ms", snapshot.p999().toNanos() / 1_000_000d);
+                  entry.put("maxMs", snapshot.max().toNanos() / 1_000_000d);
+                  return entry;
+                })
+            .toList();
+    try {
+      if (reportFile.getParent() != null) {
+        Files.createDirectories(reportFile.getParent());
+      }
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), entries);
+      log.info(
+          "API latency report written",
+          StructuredArguments.kv("eventType", "api_latency_report"),
+          StructuredArguments.kv("file", reportFile.toAbsolutePath().toString()));
+    } catch (IOException e) {
+      log.warn(
+          "Failed to write API latency report",
+          StructuredArguments.kv("eventType", "api_latency_report_failed"),
+          StructuredArguments.kv("file", reportFile.toString()),
+          e);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package solutions.bjjeire.api.metrics;
+
+import java.time.Duration;
+import org.HdrHistogram.Histogram;
+
+public record LatencySnapshot(
+    String method,
+    String pathTemplate,
+    long count,
+    Duration p50,
+    Duration p90,
+    Duration p99,
+    Duration p999,
+    Duration max) {
+
+  static LatencySnapshot of(String method, String pathTemplate, Histogram histogram) {
+    return new LatencySnapshot(
+        method,
+        pathTemplate,
+        histogram.getTotalCount(),
+        LatencyHistogram.valueAtPercentile(histogram, 50),
+        LatencyHistogram.valueAtPercentile(histogram, 90),
+        LatencyHistogram.valueAtPercentile(histogram, 99),
+        LatencyHistogram.valueAtPercentile(histogram, 99.9),
+        LatencyHistogram.valueAtPercentile(histogram, 100));
+  }
+}
@@ -0,0 +1,144 @@
+package solutions.bjjeire.api.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.config.MetricsSettings;
+import solutions.bjjeire.core.utilities.ShutdownManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrometheusMetricsExporter {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final MetricsSettings metricsSettings;
+  private final ShutdownManager shutdownManager;
+
+  private PrometheusMeterRegistry registry;
+  private HttpServer server;
+  private ScheduledExecutorService textfileWriter;
+
+  @PostConstruct
+  void start() {
+    if (!metricsSettings.isEnabled()) {
+      return;
+    }
+
+    registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    List<Tag> commonTags =
+        metricsSettings.getCommonTags().entrySet().stream()
+            .map(entry -> Tag.of(entry.getKey(), entry.getValue()))
+            .toList();
+    registry.config().commonTags(commonTags);
+    Metrics.addRegistry(registry);
+
+    switch (metricsSettings.getExportMode()) {
+      case SCRAPE -> startScrapeEndpoint();
+      case TEXTFILE -> startTextfileWriter();
+    }
+    shutdownManager.register(this::stop);
+  }
+
+  private void startScrapeEndpoint() {
+    try {
+      server = HttpServer.create(new InetSocketAddress(metricsSettings.getScrapePort()), 0);
+      server.createContext(metricsSettings.getScrapePath(), this::handleScrape);
+      server.setExecutor(
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "metrics-scrape");
+                thread.setDaemon(true);
+                return thread;
+              }));
+      server.start();
+      log.info(
+          "Prometheus scrape endpoint started",
+          StructuredArguments.kv("eventType", "metrics_export_started"),
+          StructuredArguments.kv("port", server.getAddress().getPort()),
+          StructuredArguments.kv("path", metricsSettings.getScrapePath()));
+    } catch (IOException e) {
+      log.warn(
+          "Failed to start Prometheus scrape endpoint, metrics will not be exposed",
+          StructuredArguments.kv("eventType", "metrics_export_failed"),
+          StructuredArguments.kv("port", metricsSettings.getScrapePort()),
+          e);
+    }
+  }
+
+  private void handleScrape(HttpExchange exchange) throws IOException {
+    byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private void startTextfileWriter() {
+    textfileWriter =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "metrics-textfile");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = metricsSettings.getTextfileIntervalSeconds();
+    textfileWriter.scheduleWithFixedDelay(
+        this::writeTextfile, interval, interval, TimeUnit.SECONDS);
+    log.info(
+        "Prometheus textfile export started",
+        StructuredArguments.kv("eventType", "metrics_export_started"),
+        StructuredArguments.kv("path", metricsSettings.getTextfilePath()),
+        StructuredArguments.kv("intervalSeconds", interval));
+  }
+
+  private void writeTextfile() {
+    Path target = Path.of(metricsSettings.getTextfilePath());
+    try {
+      Path directory = target.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+      Files.writeString(temp, registry.scrape(), StandardCharsets.UTF_8);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn(
+          "Failed to write Prometheus metrics textfile",
+          StructuredArguments.kv("eventType", "metrics_export_failed"),
+          StructuredArguments.kv("path", target.toString()),
+          e);
+    }
+  }
+
+  private void stop() {
+    if (textfileWriter != null) {
+      textfileWriter.shutdownNow();
+      writeTextfile();
+    }
+    if (server != null) {
+      server.stop(0);
+    }
+    Metrics.removeRegistry(registry);
+    registry.close();
+  }
+}
@@ -0,0 +1,136 @@
+package solutions.bjjeire.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.config.MetricsSettings;
+import solutions.bjjeire.core.timing.TestTiming;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.utilities.ShutdownManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimingReportPublisher {
+
+  private final MetricsSettings metricsSettings;
+  private final ShutdownManager shutdownManager;
+  private final ObjectMapper objectMapper;
+
+  @PostConstruct
+  void registerReportOnShutdown() {
+    if (metricsSettings.getTimingReport().isEnabled()) {
+      shutdownManager.register(this::publishReport);
+    }
+  }
+
+  private void publishReport() {
+    List<TestTiming> timings = TestTimings.completed();
+    if (timings.isEmpty()) {
+      return;
+    }
+
+    int topN = metricsSettings.getTimingReport().getTopN();
+    List<TestTiming> slowestTests =
+        timings.stream()
+            .sorted(Comparator.comparingLong(TestTiming::durationMillis).reversed())
+            .limit(topN)
+            .toList();
+    List<PhaseSummary> slowestPhases =
+        summarizePhases(timings).stream()
+            .sorted(Comparator.comparingLong(PhaseSummary::totalMs).reversed())
+            .limit(topN)
+            .toList();
+
+    slowestTests.forEach(
+        timing ->
+            log.info(
+                "Slow test",
+                StructuredArguments.kv("eventType", "slow_test"),
+                StructuredArguments.kv("testName", timing.testName()),
+                StructuredArguments.kv("status", timing.status()),
+                StructuredArguments.kv("durationMs", timing.durationMillis()),
+                StructuredArguments.kv("phaseDurationsMs", timing.phaseDurations())));
+    slowestPhases.forEach(
+        phase ->
+            log.info(
+                "Slow phase",
+                StructuredArguments.kv("eventType", "slow_phase"),
+                StructuredArguments.kv("phase", phase.phase()),
+                StructuredArguments.kv("count", phase.count()),
+                StructuredArguments.kv("totalMs", phase.totalMs()),
+                StructuredArguments.kv("meanMs", phase.meanMs()),
+                StructuredArguments.kv("maxMs", phase.maxMs())));
+
+    writeReport(
+        Path.of(metricsSettings.getTimingReport().getFile()),
+        timings.size(),
+        slowestTests,
+        slowestPhases);
+  }
+
+  private List<PhaseSummary> summarizePhases(List<TestTiming> timings) {
+    Map<String, long[]> totals = new TreeMap<>();
+    timings.forEach(
+        timing ->
+            timing
+                .phaseDurations()
+                .forEach(
+                    (phase, millis) -> {
+                      long[] aggregate = totals.computeIfAbsent(phase, key -> new long[3]);
+                      aggregate[0]++;
+                      aggregate[1] += millis;
+                      aggregate[2] = Math.max(aggregate[2], millis);
+                    }));
+    return totals.entrySet().stream()
+        .map(
+            entry ->
+                new PhaseSummary(
+                    entry.getKey(),
+                    entry.getValue()[0],
+                    entry.getValue()[1],
+                    (double) entry.getValue()[1] / entry.getValue()[0],
+                    entry.getValue()[2]))
+        .toList();
+  }
+
+  private void writeReport(
+      Path reportFile,
+      int testCount,
+      List<TestTiming> slowestTests,
+      List<PhaseSummary> slowestPhases) {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("testCount", testCount);
+    report.put("slowestTests", slowestTests);
+    report.put("slowestPhases", slowestPhases);
+    try {
+      if (reportFile.getParent() != null) {
+        Files.createDirectories(reportFile.getParent());
+      }
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+      log.info(
+          "Test timing report written",
+          StructuredArguments.kv("eventType", "test_timing_report"),
+          StructuredArguments.kv("file", reportFile.toAbsolutePath().toString()));
+    } catch (IOException e) {
+      log.warn(
+          "Failed to write test timing report",
+          StructuredArguments.kv("eventType", "test_timing_report_failed"),
+          StructuredArguments.kv("file", reportFile.toString()),
+          e);
+    }
+  }
+
+  record PhaseSummary(String phase, long count, long totalMs, double meanMs, long maxMs) {}
+}
@@ -1,35 +1,69 @@
 package solutions.bjjeire.api.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import solutions.bjjeire.api.client.ApiRequest;
 import solutions.bjjeire.api.client.RequestExecutor;
+import solutions.bjjeire.api.config.ApiSettings;
 import solutions.bjjeire.api.config.TestUsersConfig;
 import solutions.bjjeire.api.endpoints.AuthEndpoints;
 import solutions.bjjeire.api.exceptions.AuthenticationFailedException;
 import solutions.bjjeire.api.validation.ApiResponse;
 import solutions.bjjeire.core.data.common.GenerateTokenResponse;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+  private static final Duration TTL_WITHOUT_EXPIRY = Duration.ofHours(12);
+
   private final RequestExecutor requestExecutor;
   private final TestUsersConfig testUsersConfig;
+  private final ApiSettings apiSettings;
+  private final ObjectMapper objectMapper;
 
-  private final ThreadLocal<String> threadTokenCache = ThreadLocal.withInitial(() -> null);
+  private final Map<String, Mono<GenerateTokenResponse>> tokenCache = new ConcurrentHashMap<>();
 
   public Mono<String> getTokenFor(String userKey) {
-    String cachedToken = threadTokenCache.get();
-    if (cachedToken != null) {
-      return Mono.just(cachedToken);
-    }
-    return authenticate(userKey).doOnSuccess(threadTokenCache::set);
+    return tokenCache
+        .computeIfAbsent(userKey, this::cachedAuthentication)
+        .map(GenerateTokenResponse::token);
+  }
+
+  public void invalidateToken(String userKey) {
+    tokenCache.remove(userKey);
   }
 
-  private Mono<String> authenticate(String userKey) {
+  private Mono<GenerateTokenResponse> cachedAuthentication(String userKey) {
+    return authenticate(userKey)
+        .doOnNext(
+            tokenResponse ->
+                log.info(
+                    "Access token acquired",
+                    StructuredArguments.kv("eventType", "auth_token_acquired"),
+                    StructuredArguments.kv("user_key", userKey),
+                    StructuredArguments.kv(
+                        "refresh_in_seconds", timeToRefresh(tokenResponse).toSeconds())))
+        .cache(this::timeToRefresh, error -> Duration.ZERO, () -> Duration.ZERO);
+  }
+
+  private Mono<GenerateTokenResponse> authenticate(String userKey) {
     TestUsersConfig.User user = testUsersConfig.getUser(userKey);
 
     return authenticateWithCredentials(user.getUserId(), user.getRole())
@@ -42,7 +76,7 @@ public class AuthService {
                         userKey, response.getStatusCode(), response.getBodyAsString());
                 return Mono.error(new AuthenticationFailedException(errorMessage));
               }
-              return Mono.just(response.as(GenerateTokenResponse.class).token());
+              return Mono.just(response.as(GenerateTokenResponse.class));
             });
   }
 
@@ -54,4 +88,48 @@ public class AuthService {
             .build();
     return requestExecutor.execute(request);
   }
+
+  private Duration timeToRefresh(GenerateTokenResponse tokenResponse) {
+    return jwtExpiry(tokenResponse.token())
+        .or(() -> parseExpiresUtc(tokenResponse.expiresUtc()))
+        .map(
+            expiry -> {
+              Duration remaining =
+                  Duration.between(Instant.now(), expiry)
+                      .minusSeconds(apiSettings.getTokenRefreshSkewSeconds());
+              return remaining.isNegative() ? Duration.ZERO : remaining;
+            })
+        .orElse(TTL_WITHOUT_EXPIRY);
+  }
+
+  private Optional<Instant> jwtExpiry(String token) {
+    String[] parts = token != null ? token.split("\\.") : new String[0];
+    if (parts.length < 2) {
+      return Optional.empty();
+    }
+    try {
+      JsonNode payload = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+      JsonNode exp = payload.get("exp");
+      return exp != null && exp.canConvertToLong()
+          ? Optional.of(Instant.ofEpochSecond(exp.asLong()))
+          : Optional.empty();
+    } catch (IllegalArgumentException | IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Optional<Instant> parseExpiresUtc(String expiresUtc) {
+    if (expiresUtc == null || expiresUtc.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Instant.parse(expiresUtc));
+    } catch (DateTimeParseException e) {
+      try {
+        return Optional.of(LocalDateTime.parse(expiresUtc).toInstant(ZoneOffset.UTC));
+      } catch (DateTimeParseException ignored) {
+        return Optional.empty();
+      }
+    }
+  }
 }
@@ -0,0 +1,198 @@
+package solutions.bjjeire.api.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+
+@Slf4j
+class OtlpJsonFileSpanExporter implements SpanExporter {
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final Path file;
+  private Writer writer;
+
+  OtlpJsonFileSpanExporter(Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+    try {
+      if (writer == null) {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        writer =
+            Files.newBufferedWriter(
+                file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      }
+      try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        writeRequest(generator, spans);
+      }
+      writer.write(System.lineSeparator());
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      log.warn(
+          "Failed to export spans",
+          StructuredArguments.kv("eventType", "span_export_failed"),
+          StructuredArguments.kv("path", file.toString()),
+          StructuredArguments.kv("spanCount", spans.size()),
+          e);
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  @Override
+  public synchronized CompletableResultCode flush() {
+    try {
+      if (writer != null) {
+        writer.flush();
+      }
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  @Override
+  public synchronized CompletableResultCode shutdown() {
+    try {
+      if (writer != null) {
+        writer.close();
+        writer = null;
+      }
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  private void writeRequest(JsonGenerator generator, Collection<SpanData> spans)
+      throws IOException {
+    Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped =
+        spans.stream()
+            .collect(
+                Collectors.groupingBy(
+                    SpanData::getResource,
+                    LinkedHashMap::new,
+                    Collectors.groupingBy(
+                        SpanData::getInstrumentationScopeInfo,
+                        LinkedHashMap::new,
+                        Collectors.toList())));
+
+    generator.writeStartObject();
+    generator.writeArrayFieldStart("resourceSpans");
+    for (var resourceEntry : grouped.entrySet()) {
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("resource");
+      writeAttributes(generator, resourceEntry.getKey().getAttributes());
+      generator.writeEndObject();
+      generator.writeArrayFieldStart("scopeSpans");
+      for (var scopeEntry : resourceEntry.getValue().entrySet()) {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("scope");
+        generator.writeStringField("name", scopeEntry.getKey().getName());
+        if (scopeEntry.getKey().getVersion() != null) {
+          generator.writeStringField("version", scopeEntry.getKey().getVersion());
+        }
+        generator.writeEndObject();
+        generator.writeArrayFieldStart("spans");
+        for (SpanData span : scopeEntry.getValue()) {
+          writeSpan(generator, span);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeSpan(JsonGenerator generator, SpanData span) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("traceId", span.getTraceId());
+    generator.writeStringField("spanId", span.getSpanId());
+    if (span.getParentSpanContext().isValid()) {
+      generator.writeStringField("parentSpanId", span.getParentSpanId());
+    }
+    generator.writeStringField("name", span.getName());
+    generator.writeNumberField("kind", span.getKind().ordinal() + 1);
+    generator.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+    generator.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+    writeAttributes(generator, span.getAttributes());
+    if (!span.getEvents().isEmpty()) {
+      generator.writeArrayFieldStart("events");
+      for (EventData event : span.getEvents()) {
+        generator.writeStartObject();
+        generator.writeStringField("timeUnixNano", Long.toString(event.getEpochNanos()));
+        generator.writeStringField("name", event.getName());
+        writeAttributes(generator, event.getAttributes());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    }
+    generator.writeObjectFieldStart("status");
+    generator.writeNumberField("code", span.getStatus().getStatusCode().ordinal());
+    if (!span.getStatus().getDescription().isEmpty()) {
+      generator.writeStringField("message", span.getStatus().getDescription());
+    }
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  private void writeAttributes(JsonGenerator generator, Attributes attributes) throws IOException {
+    generator.writeArrayFieldStart("attributes");
+    for (Map.Entry<AttributeKey<?>, Object> attribute : attributes.asMap().entrySet()) {
+      generator.writeStartObject();
+      generator.writeStringField("key", attribute.getKey().getKey());
+      generator.writeFieldName("value");
+      writeValue(generator, attribute.getValue());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeValue(JsonGenerator generator, Object value) throws IOException {
+    generator.writeStartObject();
+    if (value instanceof Boolean bool) {
+      generator.writeBooleanField("boolValue", bool);
+    } else if (value instanceof Long number) {
+      generator.writeStringField("intValue", number.toString());
+    } else if (value instanceof Double number) {
+      generator.writeNumberField("doubleValue", number);
+    } else if (value instanceof List<?> values) {
+      generator.writeObjectFieldStart("arrayValue");
+      generator.writeArrayFieldStart("values");
+      for (Object element : values) {
+        writeValue(generator, element);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    } else {
+      generator.writeStringField("stringValue", String.valueOf(value));
+    }
+    generator.writeEndObject();
+  }
+}
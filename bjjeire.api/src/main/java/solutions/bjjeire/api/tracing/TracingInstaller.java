@@ -0,0 +1,85 @@
+package solutions.bjjeire.api.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import jakarta.annotation.PostConstruct;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.config.ApiSettings;
+import solutions.bjjeire.api.config.TracingSettings;
+import solutions.bjjeire.core.tracing.TestTracing;
+import solutions.bjjeire.core.utilities.ShutdownManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TracingInstaller {
+
+  private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+  private static final AttributeKey<String> DEPLOYMENT_ENVIRONMENT =
+      AttributeKey.stringKey("deployment.environment");
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final TracingSettings tracingSettings;
+  private final ApiSettings apiSettings;
+  private final ShutdownManager shutdownManager;
+
+  @PostConstruct
+  void install() {
+    if (!tracingSettings.isEnabled()) {
+      return;
+    }
+
+    Resource resource =
+        Resource.getDefault()
+            .merge(
+                Resource.create(
+                    Attributes.of(
+                        SERVICE_NAME,
+                        tracingSettings.getServiceName(),
+                        DEPLOYMENT_ENVIRONMENT,
+                        String.valueOf(apiSettings.getEnvironment()))));
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder()
+            .setResource(resource)
+            .setSampler(
+                Sampler.parentBased(Sampler.traceIdRatioBased(tracingSettings.getSampleRatio())))
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(
+                        new OtlpJsonFileSpanExporter(Path.of(tracingSettings.getExportFile())))
+                    .setScheduleDelay(Duration.ofMillis(tracingSettings.getExportDelayMillis()))
+                    .build())
+            .build();
+    OpenTelemetrySdk sdk =
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(tracerProvider)
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+    TestTracing.install(sdk);
+    shutdownManager.register(() -> shutdown(sdk));
+
+    log.info(
+        "OpenTelemetry tracing enabled",
+        StructuredArguments.kv("eventType", "tracing_started"),
+        StructuredArguments.kv("serviceName", tracingSettings.getServiceName()),
+        StructuredArguments.kv("exportFile", tracingSettings.getExportFile()),
+        StructuredArguments.kv("sampleRatio", tracingSettings.getSampleRatio()));
+  }
+
+  private void shutdown(OpenTelemetrySdk sdk) {
+    TestTracing.reset();
+    sdk.getSdkTracerProvider().shutdown().join(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,175 @@
+package solutions.bjjeire.api.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.config.ApiSettings;
+import solutions.bjjeire.api.validation.ApiResponse;
+
+@Slf4j
+@Component
+public class BodyCapturePolicy {
+
+  private static final String REDACTED = "***";
+  private static final String TRUNCATED_MARKER = "...[truncated, %d bytes total]";
+
+  private final ApiSettings.BodyCaptureSettings settings;
+  private final Set<String> sensitiveFields;
+  private final Pattern sensitivePairs;
+  private final JsonFactory jsonFactory;
+
+  public BodyCapturePolicy(ApiSettings apiSettings, ObjectMapper objectMapper) {
+    this.settings = apiSettings.getBodyCapture();
+    List<String> configuredFields = apiSettings.getSensitiveFields();
+    this.sensitiveFields =
+        configuredFields == null
+            ? Set.of()
+            : configuredFields.stream()
+                .map(field -> field.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    this.sensitivePairs = sensitivePairPattern(sensitiveFields);
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  public String capture(ApiResponse response) {
+    if (!shouldCapture(response.getStatusCode())) {
+      return null;
+    }
+    byte[] body = response.getBodyAsBytes();
+    if (body == null || body.length == 0) {
+      return null;
+    }
+    MediaType contentType = response.getHeaders().getContentType();
+    return isJson(contentType, body) ? captureJson(body) : captureText(body, contentType);
+  }
+
+  private boolean shouldCapture(int statusCode) {
+    if (!settings.isEnabled()) {
+      return false;
+    }
+    boolean failure = statusCode >= 400;
+    if (failure) {
+      return true;
+    }
+    if (settings.isCaptureOnFailureOnly()) {
+      return false;
+    }
+    double sampleRate = settings.getSampleRate();
+    return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+
+  private String captureJson(byte[] body) {
+    int maxBytes = settings.getMaxBytes();
+    ByteArrayOutputStream output = new ByteArrayOutputStream(Math.min(body.length, maxBytes) + 16);
+    boolean truncated = false;
+    try (JsonParser parser = jsonFactory.createParser(body);
+        JsonGenerator generator =
+            jsonFactory
+                .createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null) {
+        if (output.size() + generator.getOutputBuffered() >= maxBytes) {
+          truncated = true;
+          break;
+        }
+        if (token == JsonToken.FIELD_NAME && isSensitive(parser.currentName())) {
+          generator.writeFieldName(parser.currentName());
+          parser.nextToken();
+          parser.skipChildren();
+          generator.writeString(REDACTED);
+        } else {
+          generator.copyCurrentEvent(parser);
+        }
+      }
+      generator.flush();
+    } catch (IOException e) {
+      log.debug("Response body is not valid JSON, capturing the redacted prefix only", e);
+      truncated = true;
+    }
+    byte[] captured = output.toByteArray();
+    String prefix = decodePrefix(captured, maxBytes, StandardCharsets.UTF_8);
+    return truncated || captured.length > maxBytes ? withMarker(prefix, body.length) : prefix;
+  }
+
+  private String captureText(byte[] body, MediaType contentType) {
+    Charset charset =
+        contentType == null || contentType.getCharset() == null
+            ? StandardCharsets.UTF_8
+            : contentType.getCharset();
+    String prefix = redactPairs(decodePrefix(body, settings.getMaxBytes(), charset));
+    return body.length > settings.getMaxBytes() ? withMarker(prefix, body.length) : prefix;
+  }
+
+  private String redactPairs(String text) {
+    if (sensitivePairs == null) {
+      return text;
+    }
+    return sensitivePairs.matcher(text).replaceAll("$1" + REDACTED);
+  }
+
+  private static String decodePrefix(byte[] bytes, int maxBytes, Charset charset) {
+    int length = Math.min(bytes.length, maxBytes);
+    boolean complete = length == bytes.length;
+    CharsetDecoder decoder =
+        charset
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    CharBuffer chars = CharBuffer.allocate((int) Math.ceil(length * decoder.maxCharsPerByte()));
+    decoder.decode(ByteBuffer.wrap(bytes, 0, length), chars, complete);
+    if (complete) {
+      decoder.flush(chars);
+    }
+    return chars.flip().toString();
+  }
+
+  private static String withMarker(String prefix, int totalBytes) {
+    return prefix + TRUNCATED_MARKER.formatted(totalBytes);
+  }
+
+  private static Pattern sensitivePairPattern(Set<String> sensitiveFields) {
+    if (sensitiveFields.isEmpty()) {
+      return null;
+    }
+    String names =
+        sensitiveFields.stream().map(Pattern::quote).collect(Collectors.joining("|", "(?:", ")"));
+    return Pattern.compile(
+        "((?:^|[\\s&;,?])" + names + "\\s*[=:]\\s*)[^&\\s;,]*", Pattern.CASE_INSENSITIVE);
+  }
+
+  private boolean isSensitive(String fieldName) {
+    return fieldName != null && sensitiveFields.contains(fieldName.toLowerCase(Locale.ROOT));
+  }
+
+  private static boolean isJson(MediaType contentType, byte[] body) {
+    if (contentType != null) {
+      return contentType.getSubtype().endsWith("json");
+    }
+    for (byte b : body) {
+      if (!Character.isWhitespace(b)) {
+        return b == '{' || b == '[';
+      }
+    }
+    return false;
+  }
+}
@@ -1,5 +1,6 @@
 package solutions.bjjeire.api.utils;
 
+import io.micrometer.core.instrument.Metrics;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
@@ -20,6 +21,9 @@ import solutions.bjjeire.api.exceptions.ApiException;
 @RequiredArgsConstructor
 public class RetryPolicy {
 
+  private static final String RETRY_COUNTER = "bjjeire.api.retries";
+  private static final String RETRY_EXHAUSTED_COUNTER = "bjjeire.api.retries.exhausted";
+
   private final ApiSettings apiSettings;
 
   public Retry getRetrySpec(String endpoint, HttpMethod method) {
@@ -34,6 +38,13 @@ public class RetryPolicy {
         .doBeforeRetry(
             retrySignal -> {
               long attempt = retrySignal.totalRetriesInARow() + 1;
+              Metrics.counter(
+                      RETRY_COUNTER,
+                      "method",
+                      method.name(),
+                      "reason",
+                      retrySignal.failure().getClass().getSimpleName())
+                  .increment();
               log.warn(
                   "Retrying API request",
                   StructuredArguments.kv("eventType", "api_retry"),
@@ -44,6 +55,7 @@ public class RetryPolicy {
             })
         .onRetryExhaustedThrow(
             (retrySpec, retrySignal) -> {
+              Metrics.counter(RETRY_EXHAUSTED_COUNTER, "method", method.name()).increment();
               log.error(
                   "Retry attempts exhausted for API request",
                   StructuredArguments.kv("eventType", "api_retry_exhausted"),
@@ -1,14 +1,25 @@
 package solutions.bjjeire.api.validation;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import solutions.bjjeire.api.exceptions.ApiAssertionException;
 import solutions.bjjeire.api.exceptions.ApiResponseDeserializationException;
@@ -19,19 +30,46 @@ public class ApiResponse {
 
   private final Map<Class<?>, Object> deserializedBodyCache = new ConcurrentHashMap<>();
 
-  private final ResponseEntity<String> responseEntity;
+  private final ResponseEntity<byte[]> responseEntity;
   private final Duration executionTime;
   private final ObjectMapper objectMapper;
   private final String requestPath;
+  private final HttpMethod requestMethod;
+  private final String pathTemplate;
+
+  @Getter(AccessLevel.NONE)
+  private final ResponseValidatorFactory validatorFactory;
+
+  @Getter(AccessLevel.NONE)
+  private volatile String bodyAsString;
+
+  @Getter(AccessLevel.NONE)
+  private volatile JsonNode bodyAsTree;
+
+  @Getter(AccessLevel.NONE)
+  private volatile DocumentContext jsonPathDocument;
 
   public int getStatusCode() {
     return responseEntity.getStatusCode().value();
   }
 
-  public String getBodyAsString() {
+  public byte[] getBodyAsBytes() {
     return responseEntity.getBody();
   }
 
+  public String getBodyAsString() {
+    String body = bodyAsString;
+    if (body == null) {
+      byte[] bytes = getBodyAsBytes();
+      if (bytes == null) {
+        return null;
+      }
+      body = new String(bytes, bodyCharset());
+      bodyAsString = body;
+    }
+    return body;
+  }
+
   public HttpHeaders getHeaders() {
     return responseEntity.getHeaders();
   }
@@ -42,34 +80,89 @@ public class ApiResponse {
 
   @SuppressWarnings("unchecked")
   public <T> T as(Class<T> type) {
+    if (JsonNode.class.equals(type)) {
+      return (T) asJsonNode();
+    }
 
     return (T)
         deserializedBodyCache.computeIfAbsent(
             type,
             key -> {
-              String body = getBodyAsString();
-              if (body == null || body.isBlank()) {
-                throw new ApiAssertionException(
-                    "Cannot deserialize response body because it is empty.", requestPath, body);
-              }
               try {
-                return objectMapper.readValue(body, key);
-              } catch (IOException e) {
+                return objectMapper.treeToValue(asJsonNode(), key);
+              } catch (JsonProcessingException e) {
                 throw new ApiResponseDeserializationException(
-                    e.getMessage(), body, type.getSimpleName(), e);
+                    e.getMessage(), getBodyAsString(), type.getSimpleName(), e);
               }
             });
   }
 
   public JsonNode asJsonNode() {
-    return as(JsonNode.class);
+    JsonNode tree = bodyAsTree;
+    if (tree == null) {
+      synchronized (this) {
+        tree = bodyAsTree;
+        if (tree == null) {
+          tree = parseBody();
+          bodyAsTree = tree;
+        }
+      }
+    }
+    return tree;
+  }
+
+  public DocumentContext asJsonPathDocument() {
+    DocumentContext document = jsonPathDocument;
+    if (document == null) {
+      Configuration configuration =
+          Configuration.builder()
+              .jsonProvider(new JacksonJsonNodeJsonProvider(objectMapper))
+              .mappingProvider(new JacksonMappingProvider(objectMapper))
+              .build();
+      document = JsonPath.using(configuration).parse(asJsonNode());
+      jsonPathDocument = document;
+    }
+    return document;
   }
 
   public ResponseValidator shouldBe() {
-    return new ResponseValidator(this);
+    return should();
   }
 
   public ResponseValidator should() {
-    return new ResponseValidator(this);
+    return validatorFactory != null ? validatorFactory.create(this) : new ResponseValidator(this);
+  }
+
+  private JsonNode parseBody() {
+    byte[] bytes = getBodyAsBytes();
+    if (isBlank(bytes)) {
+      throw new ApiAssertionException(
+          "Cannot deserialize response body because it is empty.", requestPath, getBodyAsString());
+    }
+    try {
+      return objectMapper.readTree(bytes);
+    } catch (IOException e) {
+      throw new ApiResponseDeserializationException(
+          e.getMessage(), getBodyAsString(), JsonNode.class.getSimpleName(), e);
+    }
+  }
+
+  private Charset bodyCharset() {
+    MediaType contentType = responseEntity.getHeaders().getContentType();
+    return contentType != null && contentType.getCharset() != null
+        ? contentType.getCharset()
+        : StandardCharsets.UTF_8;
+  }
+
+  static boolean isBlank(byte[] bytes) {
+    if (bytes == null) {
+      return true;
+    }
+    for (byte b : bytes) {
+      if (!Character.isWhitespace(b)) {
+        return false;
+      }
+    }
+    return true;
   }
 }
@@ -0,0 +1,31 @@
+package solutions.bjjeire.api.validation;
+
+import com.jayway.jsonpath.JsonPath;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class JsonPathCache {
+
+  private static final int MAX_SIZE = 512;
+
+  private static final Map<String, JsonPath> COMPILED_PATHS =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JsonPath> eldest) {
+              return size() > MAX_SIZE;
+            }
+          });
+
+  private JsonPathCache() {}
+
+  static JsonPath compile(String expression) {
+    JsonPath compiled = COMPILED_PATHS.get(expression);
+    if (compiled == null) {
+      compiled = JsonPath.compile(expression);
+      COMPILED_PATHS.putIfAbsent(expression, compiled);
+    }
+    return compiled;
+  }
+}
@@ -0,0 +1,90 @@
+package solutions.bjjeire.api.validation;
+
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.config.ApiSettings;
+
+@Slf4j
+@Component
+public class JsonSchemaCache {
+
+  private static final String SCHEMA_DIRECTORY = "schemas/";
+
+  private final ApiSettings apiSettings;
+  private final JsonSchemaFactory factory =
+      JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+  private final Map<String, JsonSchema> schemas;
+
+  public JsonSchemaCache(ApiSettings apiSettings) {
+    this.apiSettings = apiSettings;
+    int maxSize = apiSettings.getSchemaCacheMaxSize();
+    this.schemas =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, JsonSchema> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  @PostConstruct
+  void prewarm() {
+    if (!apiSettings.isPrewarmSchemas()) {
+      return;
+    }
+
+    try {
+      Resource[] resources =
+          new PathMatchingResourcePatternResolver()
+              .getResources("classpath*:" + SCHEMA_DIRECTORY + "*.json");
+      for (Resource resource : resources) {
+        getSchema(SCHEMA_DIRECTORY + resource.getFilename());
+      }
+      log.info(
+          "JSON schemas pre-warmed",
+          StructuredArguments.kv("eventType", "schema_cache_prewarm"),
+          StructuredArguments.kv("schema_count", resources.length));
+    } catch (IOException e) {
+      log.warn(
+          "Failed to pre-warm JSON schemas",
+          StructuredArguments.kv("eventType", "schema_cache_prewarm_failed"),
+          e);
+    }
+  }
+
+  public Optional<JsonSchema> getSchema(String schemaPath) {
+    JsonSchema schema = schemas.get(schemaPath);
+    if (schema != null) {
+      return Optional.of(schema);
+    }
+
+    Optional<JsonSchema> compiled = compile(schemaPath);
+    compiled.ifPresent(value -> schemas.putIfAbsent(schemaPath, value));
+    return compiled;
+  }
+
+  private Optional<JsonSchema> compile(String schemaPath) {
+    try (InputStream schemaStream = getClass().getClassLoader().getResourceAsStream(schemaPath)) {
+      if (schemaStream == null) {
+        return Optional.empty();
+      }
+      return Optional.of(factory.getSchema(schemaStream));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read JSON schema: " + schemaPath, e);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package solutions.bjjeire.api.validation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.metrics.LatencyRegistry;
+
+@Component
+@RequiredArgsConstructor
+public class LatencyAssertions {
+
+  private static final String SUITE_SCOPE = "all recorded endpoints";
+
+  private final LatencyRegistry latencyRegistry;
+
+  public LatencyValidator forEndpoint(HttpMethod method, String pathTemplate) {
+    return new LatencyValidator(
+        method.name() + " " + pathTemplate, latencyRegistry.histogram(method, pathTemplate));
+  }
+
+  public LatencyValidator forSuite() {
+    return new LatencyValidator(SUITE_SCOPE, latencyRegistry.suiteHistogram());
+  }
+}
@@ -0,0 +1,61 @@
+package solutions.bjjeire.api.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import solutions.bjjeire.api.exceptions.ApiAssertionException;
+import solutions.bjjeire.api.metrics.LatencyHistogram;
+
+@RequiredArgsConstructor
+public class LatencyValidator {
+
+  private final String scope;
+  private final Histogram histogram;
+
+  public LatencyValidator and() {
+    return this;
+  }
+
+  public LatencyValidator p50LessThan(Duration maxDuration) {
+    return percentileLessThan(50, maxDuration);
+  }
+
+  public LatencyValidator p90LessThan(Duration maxDuration) {
+    return percentileLessThan(90, maxDuration);
+  }
+
+  public LatencyValidator p95LessThan(Duration maxDuration) {
+    return percentileLessThan(95, maxDuration);
+  }
+
+  public LatencyValidator p99LessThan(Duration maxDuration) {
+    return percentileLessThan(99, maxDuration);
+  }
+
+  public LatencyValidator percentileLessThan(double percentile, Duration maxDuration) {
+    if (histogram.getTotalCount() == 0) {
+      throw new ApiAssertionException(
+          String.format("No responses were recorded for '%s'.", scope), scope, null);
+    }
+
+    Duration actual = LatencyHistogram.valueAtPercentile(histogram, percentile);
+    try {
+      assertThat(actual)
+          .withFailMessage(
+              "p%s response time of '%s' over %d responses was <%s>, expected less than or equal to <%s>",
+              formatPercentile(percentile), scope, histogram.getTotalCount(), actual, maxDuration)
+          .isLessThanOrEqualTo(maxDuration);
+      return this;
+    } catch (AssertionError e) {
+      throw new ApiAssertionException(e.getMessage(), scope, null, e);
+    }
+  }
+
+  private static String formatPercentile(double percentile) {
+    return percentile == Math.rint(percentile)
+        ? String.valueOf((long) percentile)
+        : String.valueOf(percentile);
+  }
+}
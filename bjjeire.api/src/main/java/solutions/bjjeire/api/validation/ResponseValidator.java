@@ -3,26 +3,36 @@ package solutions.bjjeire.api.validation;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
-import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import solutions.bjjeire.api.config.ApiSettings;
 import solutions.bjjeire.api.exceptions.ApiAssertionException;
+import solutions.bjjeire.api.metrics.LatencyRegistry;
 import solutions.bjjeire.api.models.errors.ValidationErrorResponse;
 
 @RequiredArgsConstructor
 public class ResponseValidator {
 
   private final ApiResponse response;
+  private final JsonSchemaCache jsonSchemaCache;
+  private final LatencyRegistry latencyRegistry;
+
+  public ResponseValidator(ApiResponse response) {
+    this(response, ContextFreeSchemas.CACHE, null);
+  }
 
   public ResponseValidator and() {
     return this;
@@ -95,16 +105,16 @@ public class ResponseValidator {
   }
 
   public ResponseValidator matchSchema(String schemaPath) {
-    try (InputStream schemaStream = getClass().getClassLoader().getResourceAsStream(schemaPath)) {
-      if (schemaStream == null) {
-        throw new ApiAssertionException(
-            String.format("Schema file not found in classpath: %s", schemaPath),
-            response.getRequestPath(),
-            "Schema validation could not be performed.");
-      }
-
-      JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
-      JsonSchema schema = factory.getSchema(schemaStream);
+    try {
+      JsonSchema schema =
+          jsonSchemaCache
+              .getSchema(schemaPath)
+              .orElseThrow(
+                  () ->
+                      new ApiAssertionException(
+                          String.format("Schema file not found in classpath: %s", schemaPath),
+                          response.getRequestPath(),
+                          "Schema validation could not be performed."));
       JsonNode jsonNode = response.asJsonNode();
 
       Set<ValidationMessage> errors = schema.validate(jsonNode);
@@ -141,21 +151,35 @@ public class ResponseValidator {
   }
 
   public ResponseValidator haveJsonPathValue(String jsonPathExpression, Object expectedValue) {
+    return haveJsonPathValues(Collections.singletonMap(jsonPathExpression, expectedValue));
+  }
+
+  public ResponseValidator haveJsonPathValues(Map<String, ?> expectedValues) {
     return executeAssertion(
         () -> {
-          String body = getAndValidateBody();
-          try {
-            Object actualValue = JsonPath.read(body, jsonPathExpression);
-            assertThat(actualValue)
-                .withFailMessage(
-                    "JSONPath '%s' assertion failed. Expected <%s> but was <%s>.",
-                    jsonPathExpression, expectedValue, actualValue)
-                .isEqualTo(expectedValue);
-          } catch (PathNotFoundException e) {
-            throw new AssertionError(
-                String.format(
-                    "JSONPath expression '%s' not found in response body.", jsonPathExpression),
-                e);
+          requireNonBlankBody();
+          DocumentContext document = response.asJsonPathDocument();
+          List<String> failures = new ArrayList<>();
+          expectedValues.forEach(
+              (jsonPathExpression, expectedValue) -> {
+                try {
+                  Object actualValue =
+                      toPlainValue(document.read(JsonPathCache.compile(jsonPathExpression)));
+                  if (!Objects.deepEquals(actualValue, expectedValue)) {
+                    failures.add(
+                        String.format(
+                            "JSONPath '%s' assertion failed. Expected <%s> but was <%s>.",
+                            jsonPathExpression, expectedValue, actualValue));
+                  }
+                } catch (PathNotFoundException e) {
+                  failures.add(
+                      String.format(
+                          "JSONPath expression '%s' not found in response body.",
+                          jsonPathExpression));
+                }
+              });
+          if (!failures.isEmpty()) {
+            throw new AssertionError(String.join(System.lineSeparator(), failures));
           }
         });
   }
@@ -189,6 +213,29 @@ public class ResponseValidator {
                 .isLessThanOrEqualTo(maxDuration));
   }
 
+  public ResponseValidator p95LessThan(Duration maxDuration) {
+    return percentileLessThan(95, maxDuration);
+  }
+
+  public ResponseValidator p99LessThan(Duration maxDuration) {
+    return percentileLessThan(99, maxDuration);
+  }
+
+  public ResponseValidator percentileLessThan(double percentile, Duration maxDuration) {
+    new LatencyValidator(
+            response.getRequestMethod().name() + " " + response.getPathTemplate(),
+            requireService(latencyRegistry, "Percentile assertions")
+                .histogram(response.getRequestMethod(), response.getPathTemplate()))
+        .percentileLessThan(percentile, maxDuration);
+    return this;
+  }
+
+  private Object toPlainValue(Object value) {
+    return value instanceof JsonNode node
+        ? response.getObjectMapper().convertValue(node, Object.class)
+        : value;
+  }
+
   private String getAndValidateBody() {
     String body = response.getBodyAsString();
     if (body == null || body.isBlank()) {
@@ -200,6 +247,25 @@ public class ResponseValidator {
     return body;
   }
 
+  private void requireNonBlankBody() {
+    if (ApiResponse.isBlank(response.getBodyAsBytes())) {
+      throw new ApiAssertionException(
+          "Cannot perform assertion because the response body is empty.",
+          response.getRequestPath(),
+          null);
+    }
+  }
+
+  private <T> T requireService(T service, String assertion) {
+    if (service == null) {
+      throw new ApiAssertionException(
+          assertion + " require the Spring test context's LatencyRegistry.",
+          response.getRequestPath(),
+          null);
+    }
+    return service;
+  }
+
   private ResponseValidator executeAssertion(Runnable assertion) {
     try {
       assertion.run();
@@ -209,4 +275,8 @@ public class ResponseValidator {
           e.getMessage(), response.getRequestPath(), response.getBodyAsString(), e);
     }
   }
+
+  private static final class ContextFreeSchemas {
+    private static final JsonSchemaCache CACHE = new JsonSchemaCache(new ApiSettings());
+  }
 }
@@ -0,0 +1,17 @@
+package solutions.bjjeire.api.validation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.metrics.LatencyRegistry;
+
+@Component
+@RequiredArgsConstructor
+public class ResponseValidatorFactory {
+
+  private final JsonSchemaCache jsonSchemaCache;
+  private final LatencyRegistry latencyRegistry;
+
+  public ResponseValidator create(ApiResponse response) {
+    return new ResponseValidator(response, jsonSchemaCache, latencyRegistry);
+  }
+}
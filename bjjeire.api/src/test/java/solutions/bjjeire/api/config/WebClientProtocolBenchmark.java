@@ -0,0 +1,114 @@
+package solutions.bjjeire.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import solutions.bjjeire.api.metrics.ConnectionPoolMonitor;
+import solutions.bjjeire.core.utilities.ShutdownManager;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class WebClientProtocolBenchmark {
+
+  private static final int EVENT_COUNT = 200;
+
+  @Param({"HTTP11", "H2C"})
+  public HttpProtocol protocol;
+
+  @Param({"false", "true"})
+  public boolean compression;
+
+  private DisposableServer server;
+  private WebClient webClient;
+
+  @Setup
+  public void start() {
+    byte[] payload = eventsPayload().getBytes(StandardCharsets.UTF_8);
+    server =
+        HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+            .compress(true)
+            .route(
+                routes ->
+                    routes.get(
+                        "/api/bjjevent",
+                        (request, response) ->
+                            response
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendByteArray(Mono.just(payload))))
+            .bindNow();
+
+    ApiSettings settings = new ApiSettings();
+    settings.setBaseUrl("http://127.0.0.1:" + server.port());
+    settings.setHttpProtocols(List.of(protocol));
+    settings.setCompressionEnabled(compression);
+    ObjectMapper objectMapper = new ObjectMapper();
+    webClient =
+        new WebClientConfig(
+                settings, objectMapper, new ConnectionPoolMonitor(new ShutdownManager()))
+            .buildWebClient(WebClient.builder());
+  }
+
+  @TearDown
+  public void stop() {
+    server.disposeNow();
+  }
+
+  @Benchmark
+  public byte[] getEvents() {
+    return webClient.get().uri("/api/bjjevent").retrieve().bodyToMono(byte[].class).block();
+  }
+
+  private static String eventsPayload() {
+    return IntStream.range(0, EVENT_COUNT)
+        .mapToObj(
+            index ->
+                """
+                {"id":"event-%d","name":"Open Mat %d","type":"OpenMat","county":"Dublin",\
+                "organiser":{"name":"BJJ Eire","website":"https://bjjeire.example/%d"},\
+                "location":{"address":"Unit %d, Industrial Estate","venue":"Academy %d"},\
+                "schedule":{"startDate":"2025-06-01","endDate":"2025-06-01"},\
+                "pricing":{"type":"Free","amount":0,"currency":"EUR"}}"""
+                    .formatted(index, index, index, index, index))
+        .collect(Collectors.joining(",", "{\"data\":[", "]}"));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(WebClientProtocolBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
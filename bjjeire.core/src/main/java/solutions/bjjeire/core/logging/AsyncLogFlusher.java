@@ -0,0 +1,57 @@
+package solutions.bjjeire.core.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.LoggerFactory;
+
+public final class AsyncLogFlusher {
+
+  public static final String LOGBACK_CONTEXT_CLASS = "ch.qos.logback.classic.LoggerContext";
+  private static final long POLL_INTERVAL_MILLIS = 10;
+
+  private AsyncLogFlusher() {}
+
+  public static void flush(Duration timeout) {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return;
+    }
+    List<AsyncAppenderBase<ILoggingEvent>> asyncAppenders = findAsyncAppenders(context);
+    long deadline = System.nanoTime() + timeout.toNanos();
+    try {
+      for (AsyncAppenderBase<ILoggingEvent> appender : asyncAppenders) {
+        while (appender.getNumberOfElementsInQueue() > 0 && System.nanoTime() < deadline) {
+          Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public static void stopContext() {
+    if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+      context.stop();
+    }
+  }
+
+  private static List<AsyncAppenderBase<ILoggingEvent>> findAsyncAppenders(LoggerContext context) {
+    List<AsyncAppenderBase<ILoggingEvent>> asyncAppenders = new ArrayList<>();
+    for (Logger logger : context.getLoggerList()) {
+      Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+      while (appenders.hasNext()) {
+        if (appenders.next() instanceof AsyncAppenderBase<ILoggingEvent> asyncAppender
+            && !asyncAppenders.contains(asyncAppender)) {
+          asyncAppenders.add(asyncAppender);
+        }
+      }
+    }
+    return asyncAppenders;
+  }
+}
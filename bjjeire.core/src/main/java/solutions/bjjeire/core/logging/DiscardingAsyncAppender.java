@@ -0,0 +1,23 @@
+package solutions.bjjeire.core.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+public class DiscardingAsyncAppender extends AsyncAppender {
+
+  private Level discardLevel = Level.DEBUG;
+
+  public void setDiscardLevel(String discardLevel) {
+    this.discardLevel = Level.toLevel(discardLevel, Level.DEBUG);
+  }
+
+  public String getDiscardLevel() {
+    return discardLevel.toString();
+  }
+
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    return event.getLevel().toInt() <= discardLevel.toInt();
+  }
+}
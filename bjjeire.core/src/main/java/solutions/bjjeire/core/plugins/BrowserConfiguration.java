@@ -16,6 +16,7 @@ public class BrowserConfiguration {
   @Setter private int version;
   @Setter private Platform platform;
   @Setter private String testName;
+  @Setter private boolean resourceBlocking;
   final HashMap<String, Object> driverOptions;
 
   public BrowserConfiguration(Browser browser, Lifecycle browserBehavior) {
@@ -69,6 +70,21 @@ public class BrowserConfiguration {
     if (this.getWidth() != that.getWidth()) return false;
     if (this.getVersion() != that.getVersion()) return false;
     if (!Objects.equals(this.getPlatform(), that.getPlatform())) return false;
+    if (this.isResourceBlocking() != that.isResourceBlocking()) return false;
     return Objects.equals(this.getDriverOptions(), that.getDriverOptions());
   }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        browser,
+        deviceName,
+        lifecycle,
+        height,
+        width,
+        version,
+        platform,
+        resourceBlocking,
+        driverOptions);
+  }
 }
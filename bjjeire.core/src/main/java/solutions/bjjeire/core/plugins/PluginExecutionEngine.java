@@ -1,8 +1,16 @@
 package solutions.bjjeire.core.plugins;
 
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 
 @Slf4j
 public final class PluginExecutionEngine {
@@ -12,71 +20,109 @@ public final class PluginExecutionEngine {
     void accept(Plugin plugin) throws Exception;
   }
 
+  private static final Meter.MeterProvider<Timer> TEST_TIMER =
+      Timer.builder("bjjeire.tests")
+          .description("Test method duration")
+          .withRegistry(Metrics.globalRegistry);
+  private static final Meter.MeterProvider<Timer> SCENARIO_TIMER =
+      Timer.builder("bjjeire.scenarios")
+          .description("Cucumber scenario duration")
+          .withRegistry(Metrics.globalRegistry);
+  private static final String PLUGIN_FAILURE_COUNTER = "bjjeire.plugin.failures";
+  private static final ThreadLocal<Long> SCENARIO_START_NANOS = new ThreadLocal<>();
+  private static final AttributeKey<String> PLUGIN_CLASS = AttributeKey.stringKey("plugin.class");
+  private static final AttributeKey<String> PLUGIN_HOOK = AttributeKey.stringKey("plugin.hook");
+
   private PluginExecutionEngine() {}
 
-  private static void execute(PluginAction action) {
+  private static void execute(String hook, PluginAction action) {
     for (Plugin plugin : UsesPlugins.getPlugins()) {
+      String pluginClass = plugin.getClass().getSimpleName();
+      String phase = pluginClass + "." + hook;
+      long startNanos = System.nanoTime();
       try {
-        action.accept(plugin);
+        TestTracing.inSpan(
+            phase,
+            Attributes.of(PLUGIN_CLASS, pluginClass, PLUGIN_HOOK, hook),
+            () -> action.accept(plugin));
       } catch (Exception e) {
         log.error(
             "Plugin execution failed",
             StructuredArguments.keyValue("eventName", "pluginExecutionFailed"),
-            StructuredArguments.keyValue("pluginClass", plugin.getClass().getSimpleName()),
+            StructuredArguments.keyValue("pluginClass", pluginClass),
             e);
+        Metrics.counter(PLUGIN_FAILURE_COUNTER, "plugin", pluginClass).increment();
+      } finally {
+        TestTimings.recordSince(phase, startNanos);
       }
     }
   }
 
   public static void preBeforeClass(Class<?> type) {
-    log.info(
-        "Executing preBeforeClass hook",
-        StructuredArguments.keyValue("eventName", "preBeforeClass"),
-        StructuredArguments.keyValue("testClass", type.getSimpleName()));
-    execute(p -> p.preBeforeClass(type));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Executing preBeforeClass hook",
+          StructuredArguments.keyValue("eventName", "preBeforeClass"),
+          StructuredArguments.keyValue("testClass", type.getSimpleName()));
+    }
+    execute("preBeforeClass", p -> p.preBeforeClass(type));
   }
 
   public static void postAfterClass(Class<?> type) {
-    log.info(
-        "Executing postAfterClass hook",
-        StructuredArguments.keyValue("eventName", "postAfterClass"),
-        StructuredArguments.keyValue("testClass", type.getSimpleName()));
-    execute(p -> p.postAfterClass(type));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Executing postAfterClass hook",
+          StructuredArguments.keyValue("eventName", "postAfterClass"),
+          StructuredArguments.keyValue("testClass", type.getSimpleName()));
+    }
+    execute("postAfterClass", p -> p.postAfterClass(type));
     UsesPlugins.VETO_PLUGINS();
   }
 
   public static void preBeforeTest(TestResult result, Method memberInfo) {
-    log.info(
-        "Executing preBeforeTest hook",
-        StructuredArguments.keyValue("eventName", "preBeforeTest"),
-        StructuredArguments.keyValue("testMethod", memberInfo.getName()));
-    execute(p -> p.preBeforeTest(result, memberInfo));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Executing preBeforeTest hook",
+          StructuredArguments.keyValue("eventName", "preBeforeTest"),
+          StructuredArguments.keyValue("testMethod", memberInfo.getName()));
+    }
+    execute("preBeforeTest", p -> p.preBeforeTest(result, memberInfo));
   }
 
   public static void postAfterTest(
       TestResult result, TimeRecord timeRecord, Method memberInfo, Throwable failedTestException) {
-    log.info(
-        "Executing postAfterTest hook",
-        StructuredArguments.keyValue("eventName", "postAfterTest"),
-        StructuredArguments.keyValue("testMethod", memberInfo.getName()),
-        StructuredArguments.keyValue("testStatus", result != null ? result.name() : "UNKNOWN"));
-    execute(p -> p.postAfterTest(result, timeRecord, memberInfo, failedTestException));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Executing postAfterTest hook",
+          StructuredArguments.keyValue("eventName", "postAfterTest"),
+          StructuredArguments.keyValue("testMethod", memberInfo.getName()),
+          StructuredArguments.keyValue("testStatus", result != null ? result.name() : "UNKNOWN"));
+    }
+    recordTestDuration(result, timeRecord, memberInfo);
+    execute(
+        "postAfterTest", p -> p.postAfterTest(result, timeRecord, memberInfo, failedTestException));
   }
 
   public static void preBeforeScenario(ScenarioContext context) {
-    log.info(
-        "Executing preBeforeScenario hook",
-        StructuredArguments.keyValue("eventName", "preBeforeScenario"),
-        StructuredArguments.keyValue("scenarioName", context.getScenarioName()));
-    execute(p -> p.preBeforeScenario(context));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Executing preBeforeScenario hook",
+          StructuredArguments.keyValue("eventName", "preBeforeScenario"),
+          StructuredArguments.keyValue("scenarioName", context.getScenarioName()));
+    }
+    SCENARIO_START_NANOS.set(System.nanoTime());
+    execute("preBeforeScenario", p -> p.preBeforeScenario(context));
   }
 
   public static void postAfterScenario(ScenarioContext context) {
-    log.info(
-        "Executing postAfterScenario hook",
-        StructuredArguments.keyValue("eventName", "postAfterScenario"),
-        StructuredArguments.keyValue("scenarioName", context.getScenarioName()));
-    execute(p -> p.postAfterScenario(context));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Executing postAfterScenario hook",
+          StructuredArguments.keyValue("eventName", "postAfterScenario"),
+          StructuredArguments.keyValue("scenarioName", context.getScenarioName()));
+    }
+    recordScenarioDuration(context);
+    execute("postAfterScenario", p -> p.postAfterScenario(context));
   }
 
   public static void beforeTestFailed(Exception e) {
@@ -84,6 +130,32 @@ public final class PluginExecutionEngine {
         "Executing test failure hook",
         StructuredArguments.keyValue("eventName", "beforeTestFailed"),
         e);
-    execute(p -> p.beforeTestFailed(e));
+    execute("beforeTestFailed", p -> p.beforeTestFailed(e));
+  }
+
+  private static void recordTestDuration(
+      TestResult result, TimeRecord timeRecord, Method memberInfo) {
+    if (timeRecord == null || timeRecord.getStartTime() == 0 || timeRecord.getDuration() < 0) {
+      return;
+    }
+    TEST_TIMER
+        .withTags(
+            "testClass",
+            memberInfo.getDeclaringClass().getSimpleName(),
+            "status",
+            result != null ? result.name() : "UNKNOWN")
+        .record(timeRecord.getDuration(), TimeUnit.MILLISECONDS);
+  }
+
+  private static void recordScenarioDuration(ScenarioContext context) {
+    Long startNanos = SCENARIO_START_NANOS.get();
+    SCENARIO_START_NANOS.remove();
+    if (startNanos == null) {
+      return;
+    }
+    SCENARIO_TIMER
+        .withTag(
+            "status", context.getTestResult() != null ? context.getTestResult().name() : "UNKNOWN")
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
   }
 }
@@ -0,0 +1,11 @@
+package solutions.bjjeire.core.plugins;
+
+public enum ResourceBlocking {
+  NOT_SET,
+  ENABLED,
+  DISABLED;
+
+  public boolean resolve(boolean defaultValue) {
+    return this == NOT_SET ? defaultValue : this == ENABLED;
+  }
+}
@@ -1,5 +1,8 @@
 package solutions.bjjeire.core.plugins;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,8 +11,23 @@ import lombok.Setter;
 public class TimeRecord {
   private long startTime;
   private long endTime;
+  private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
 
   public long getDuration() {
     return endTime - startTime;
   }
+
+  public void recordPhase(String phase, long durationMillis) {
+    phaseDurations.merge(phase, durationMillis, Long::sum);
+  }
+
+  public Map<String, Long> getPhaseDurations() {
+    return Collections.unmodifiableMap(phaseDurations);
+  }
+
+  public void reset() {
+    startTime = 0;
+    endTime = 0;
+    phaseDurations.clear();
+  }
 }
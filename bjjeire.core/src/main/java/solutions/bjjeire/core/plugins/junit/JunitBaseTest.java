@@ -1,5 +1,6 @@
 package solutions.bjjeire.core.plugins.junit;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
@@ -15,6 +16,8 @@ import solutions.bjjeire.core.plugins.PluginExecutionEngine;
 import solutions.bjjeire.core.plugins.TestResult;
 import solutions.bjjeire.core.plugins.TimeRecord;
 import solutions.bjjeire.core.plugins.UsesPlugins;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 
 @Slf4j
 @ExtendWith(SpringExtension.class)
@@ -51,6 +54,11 @@ public abstract class JunitBaseTest extends UsesPlugins {
   @BeforeEach
   public void beforeMethodCore(TestInfo testInfo) {
     this.testInfo = testInfo;
+    TestTimings.begin(CURRENT_TEST_TIME_RECORD.get());
+    String testMethodName = testInfo.getTestMethod().map(Method::getName).orElse("unknown");
+    TestTracing.openSpan(
+        getClass().getSimpleName() + "." + testMethodName,
+        TestTracing.testAttributes("junit", getClass(), testMethodName));
     log.info(
         "Executing @BeforeEach phase",
         StructuredArguments.keyValue("testName", testInfo.getDisplayName()));
@@ -62,7 +70,9 @@ public abstract class JunitBaseTest extends UsesPlugins {
               .findFirst()
               .orElseThrow();
       PluginExecutionEngine.preBeforeTest(CURRENT_TEST_RESULT.get(), methodInfo);
+      long setupStart = System.nanoTime();
       beforeEach();
+      TestTimings.recordSince(TestTimings.SETUP, setupStart);
     } catch (Exception e) {
       log.error(
           "Error during @BeforeEach phase",
@@ -90,7 +100,9 @@ public abstract class JunitBaseTest extends UsesPlugins {
               : null;
       PluginExecutionEngine.postAfterTest(
           CURRENT_TEST_RESULT.get(), CURRENT_TEST_TIME_RECORD.get(), methodInfo, testException);
+      long teardownStart = System.nanoTime();
       afterEach();
+      TestTimings.recordSince(TestTimings.TEARDOWN, teardownStart);
     } catch (Exception e) {
       log.error(
           "Error during @AfterEach phase",
@@ -1,18 +1,28 @@
 package solutions.bjjeire.core.plugins.junit;
 
+import io.opentelemetry.api.common.Attributes;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import solutions.bjjeire.core.plugins.TestResult;
+import solutions.bjjeire.core.plugins.TimeRecord;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 
 public class TestDurationWatcher
     implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
   @Override
   public void beforeTestExecution(ExtensionContext context) {
     JunitBaseTest.CURRENT_TEST_TIME_RECORD.get().setStartTime(System.currentTimeMillis());
+    TestTracing.openSpan("test body", Attributes.empty());
   }
 
   @Override
   public void afterTestExecution(ExtensionContext context) {
-    JunitBaseTest.CURRENT_TEST_TIME_RECORD.get().setEndTime(System.currentTimeMillis());
+    TimeRecord timeRecord = JunitBaseTest.CURRENT_TEST_TIME_RECORD.get();
+    timeRecord.setEndTime(System.currentTimeMillis());
+    TestTimings.record(TestTimings.TEST_BODY, timeRecord.getDuration());
+    Throwable failure = context.getExecutionException().orElse(null);
+    TestTracing.closeSpan(failure == null ? TestResult.SUCCESS : TestResult.FAILURE, failure);
   }
 }
@@ -10,6 +10,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import solutions.bjjeire.core.plugins.PluginExecutionEngine;
 import solutions.bjjeire.core.plugins.TestResult;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 
 @Slf4j
 public class TestResultWatcher implements TestWatcher {
@@ -72,7 +74,16 @@ public class TestResultWatcher implements TestWatcher {
   }
 
   private void executePostTestActions(ExtensionContext context, Throwable throwable) {
+    try {
+      runPostTestPlugins(context, throwable);
+    } finally {
+      TestTracing.closeSpan(JunitBaseTest.CURRENT_TEST_RESULT.get(), throwable);
+    }
+  }
+
+  private void runPostTestPlugins(ExtensionContext context, Throwable throwable) {
     Optional<Method> testMethod = context.getTestMethod();
+    TestTimings.complete(timingName(context, testMethod), JunitBaseTest.CURRENT_TEST_RESULT.get());
     if (testMethod.isEmpty()) {
       log.warn(
           "Cannot run post-test plugin actions",
@@ -97,6 +108,16 @@ public class TestResultWatcher implements TestWatcher {
     }
   }
 
+  private String timingName(ExtensionContext context, Optional<Method> testMethod) {
+    String displayName = context.getDisplayName();
+    if (testMethod.isEmpty()) {
+      return displayName;
+    }
+    String methodName = testMethod.get().getName();
+    String testName = context.getRequiredTestClass().getSimpleName() + "." + methodName;
+    return displayName.startsWith(methodName) ? testName : testName + " " + displayName;
+  }
+
   private PluginExecutionEngine getPluginExecutionEngine(ExtensionContext context) {
     try {
       ApplicationContext springContext = SpringExtension.getApplicationContext(context);
@@ -12,6 +12,8 @@ import org.testng.annotations.Listeners;
 import solutions.bjjeire.core.plugins.PluginExecutionEngine;
 import solutions.bjjeire.core.plugins.TestResult;
 import solutions.bjjeire.core.plugins.TimeRecord;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 
 @Slf4j
 @Listeners(TestResultListener.class)
@@ -45,13 +47,20 @@ public abstract class BaseTest extends AbstractTestNGSpringContextTests {
 
   @BeforeMethod(alwaysRun = true)
   public void beforeMethodCore(ITestResult result) {
+    TestTimings.begin(CURRENT_TEST_TIME_RECORD.get());
+    String testMethodName = result.getMethod().getMethodName();
+    TestTracing.openSpan(
+        getClass().getSimpleName() + "." + testMethodName,
+        TestTracing.testAttributes("testng", getClass(), testMethodName));
     log.info(
         "Executing @BeforeMethod phase",
         StructuredArguments.keyValue("testName", result.getName()));
     try {
       var methodInfo = this.getClass().getMethod(result.getMethod().getMethodName());
       PluginExecutionEngine.preBeforeTest(CURRENT_TEST_RESULT.get(), methodInfo);
+      long setupStart = System.nanoTime();
       beforeEach();
+      TestTimings.recordSince(TestTimings.SETUP, setupStart);
     } catch (Exception e) {
       log.error(
           "Error during @BeforeMethod phase",
@@ -65,9 +74,19 @@ public abstract class BaseTest extends AbstractTestNGSpringContextTests {
   public void afterMethodCore(ITestResult result) {
     log.info(
         "Executing @AfterMethod phase", StructuredArguments.keyValue("testName", result.getName()));
+    TestResult testResult = toTestResult(result);
+    TestTracing.recordSpan(
+        "test body",
+        result.getStartMillis(),
+        result.getEndMillis(),
+        testResult,
+        result.getThrowable());
+    TestTimings.record(TestTimings.TEST_BODY, result.getEndMillis() - result.getStartMillis());
     try {
       var methodInfo = this.getClass().getMethod(result.getMethod().getMethodName());
+      long teardownStart = System.nanoTime();
       afterEach();
+      TestTimings.recordSince(TestTimings.TEARDOWN, teardownStart);
       PluginExecutionEngine.postAfterTest(
           CURRENT_TEST_RESULT.get(),
           CURRENT_TEST_TIME_RECORD.get(),
@@ -78,6 +97,9 @@ public abstract class BaseTest extends AbstractTestNGSpringContextTests {
           "Error during @AfterMethod phase",
           StructuredArguments.keyValue("testName", result.getName()),
           e);
+    } finally {
+      TestTracing.closeSpan(testResult, null);
+      TestTimings.complete(getClass().getSimpleName() + "." + result.getName(), testResult);
     }
   }
 
@@ -97,6 +119,14 @@ public abstract class BaseTest extends AbstractTestNGSpringContextTests {
     }
   }
 
+  private static TestResult toTestResult(ITestResult result) {
+    return switch (result.getStatus()) {
+      case ITestResult.SUCCESS -> TestResult.SUCCESS;
+      case ITestResult.FAILURE -> TestResult.FAILURE;
+      default -> null;
+    };
+  }
+
   protected void configure() {}
 
   protected void beforeAll() throws Exception {}
@@ -0,0 +1,6 @@
+package solutions.bjjeire.core.timing;
+
+import java.util.Map;
+
+public record TestTiming(
+    String testName, String status, long durationMillis, Map<String, Long> phaseDurations) {}
@@ -0,0 +1,62 @@
+package solutions.bjjeire.core.timing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import solutions.bjjeire.core.plugins.TestResult;
+import solutions.bjjeire.core.plugins.TimeRecord;
+
+public final class TestTimings {
+
+  public static final String SETUP = "setup";
+  public static final String TEST_BODY = "test body";
+  public static final String TEARDOWN = "teardown";
+  public static final String BROWSER_START = "browser start";
+  public static final String DATA_SEEDING = "data seeding";
+  public static final String DATA_TEARDOWN = "data teardown";
+
+  private record ActiveTest(TimeRecord timeRecord, long startNanos) {}
+
+  private static final ThreadLocal<ActiveTest> ACTIVE_TEST = new ThreadLocal<>();
+  private static final Queue<TestTiming> COMPLETED = new ConcurrentLinkedQueue<>();
+
+  private TestTimings() {}
+
+  public static void begin(TimeRecord timeRecord) {
+    timeRecord.reset();
+    ACTIVE_TEST.set(new ActiveTest(timeRecord, System.nanoTime()));
+  }
+
+  public static void recordSince(String phase, long startNanos) {
+    record(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  public static void record(String phase, long durationMillis) {
+    ActiveTest activeTest = ACTIVE_TEST.get();
+    if (activeTest != null) {
+      activeTest.timeRecord().recordPhase(phase, durationMillis);
+    }
+  }
+
+  public static void complete(String testName, TestResult result) {
+    ActiveTest activeTest = ACTIVE_TEST.get();
+    if (activeTest == null) {
+      return;
+    }
+    ACTIVE_TEST.remove();
+    COMPLETED.add(
+        new TestTiming(
+            testName,
+            result != null ? result.name() : "UNKNOWN",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - activeTest.startNanos()),
+            Collections.unmodifiableMap(
+                new LinkedHashMap<>(activeTest.timeRecord().getPhaseDurations()))));
+  }
+
+  public static List<TestTiming> completed() {
+    return List.copyOf(COMPLETED);
+  }
+}
@@ -0,0 +1,139 @@
+package solutions.bjjeire.core.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.MDC;
+import solutions.bjjeire.core.plugins.TestResult;
+
+public final class TestTracing {
+
+  public static final String INSTRUMENTATION_SCOPE = "solutions.bjjeire";
+  public static final String TRACE_ID_MDC_KEY = "trace_id";
+
+  @FunctionalInterface
+  public interface TracedAction<E extends Exception> {
+    void run() throws E;
+  }
+
+  private static final AttributeKey<String> TEST_FRAMEWORK =
+      AttributeKey.stringKey("test.framework");
+  private static final AttributeKey<String> CODE_NAMESPACE =
+      AttributeKey.stringKey("code.namespace");
+  private static final AttributeKey<String> SCENARIO_NAME =
+      AttributeKey.stringKey("cucumber.scenario");
+  private static final AttributeKey<List<String>> SCENARIO_TAGS =
+      AttributeKey.stringArrayKey("cucumber.tags");
+  private static final AttributeKey<String> TEST_STATUS = AttributeKey.stringKey("test.status");
+  private static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+
+  private record OpenSpan(Span span, Scope scope) {}
+
+  private static final ThreadLocal<Deque<OpenSpan>> OPEN_SPANS =
+      ThreadLocal.withInitial(ArrayDeque::new);
+  private static volatile OpenTelemetry openTelemetry = OpenTelemetry.noop();
+  private static volatile Tracer tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+
+  private TestTracing() {}
+
+  public static void install(OpenTelemetry instance) {
+    openTelemetry = instance;
+    tracer = instance.getTracer(INSTRUMENTATION_SCOPE);
+  }
+
+  public static void reset() {
+    install(OpenTelemetry.noop());
+  }
+
+  public static OpenTelemetry openTelemetry() {
+    return openTelemetry;
+  }
+
+  public static Tracer tracer() {
+    return tracer;
+  }
+
+  public static Attributes testAttributes(String framework, Class<?> testClass, String testName) {
+    return Attributes.of(
+        TEST_FRAMEWORK, framework, CODE_NAMESPACE, testClass.getName(), CODE_FUNCTION, testName);
+  }
+
+  public static Attributes scenarioAttributes(String scenarioName, Collection<String> tags) {
+    return Attributes.of(
+        TEST_FRAMEWORK, "cucumber", SCENARIO_NAME, scenarioName, SCENARIO_TAGS, List.copyOf(tags));
+  }
+
+  public static void openSpan(String name, Attributes attributes) {
+    Deque<OpenSpan> openSpans = OPEN_SPANS.get();
+    Span span = tracer.spanBuilder(name).setAllAttributes(attributes).startSpan();
+    if (openSpans.isEmpty() && span.getSpanContext().isValid()) {
+      MDC.put(TRACE_ID_MDC_KEY, span.getSpanContext().getTraceId());
+    }
+    openSpans.push(new OpenSpan(span, span.makeCurrent()));
+  }
+
+  public static void closeSpan(TestResult result, Throwable error) {
+    Deque<OpenSpan> openSpans = OPEN_SPANS.get();
+    OpenSpan openSpan = openSpans.poll();
+    if (openSpan == null) {
+      return;
+    }
+    Span span = openSpan.span();
+    applyOutcome(span, result, error);
+    openSpan.scope().close();
+    span.end();
+    if (openSpans.isEmpty()) {
+      MDC.remove(TRACE_ID_MDC_KEY);
+    }
+  }
+
+  public static void recordSpan(
+      String name, long startEpochMillis, long endEpochMillis, TestResult result, Throwable error) {
+    Span span =
+        tracer
+            .spanBuilder(name)
+            .setStartTimestamp(startEpochMillis, TimeUnit.MILLISECONDS)
+            .startSpan();
+    applyOutcome(span, result, error);
+    span.end(endEpochMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public static <E extends Exception> void inSpan(
+      String name, Attributes attributes, TracedAction<E> action) throws E {
+    Span span = tracer.spanBuilder(name).setAllAttributes(attributes).startSpan();
+    Scope scope = span.makeCurrent();
+    try {
+      action.run();
+    } catch (Exception e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+      throw e;
+    } finally {
+      scope.close();
+      span.end();
+    }
+  }
+
+  private static void applyOutcome(Span span, TestResult result, Throwable error) {
+    if (result != null) {
+      span.setAttribute(TEST_STATUS, result.name());
+    }
+    if (error != null) {
+      span.recordException(error);
+    }
+    if (error != null || result == TestResult.FAILURE) {
+      span.setStatus(StatusCode.ERROR);
+    } else if (result == TestResult.SUCCESS) {
+      span.setStatus(StatusCode.OK);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package solutions.bjjeire.core.utilities;
+
+import java.time.Duration;
+import org.openqa.selenium.support.ui.Sleeper;
+
+public class BackoffSleeper implements Sleeper {
+
+  public static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofMillis(50);
+  public static final double DEFAULT_MULTIPLIER = 2.0;
+
+  private final double multiplier;
+  private Duration nextInterval;
+
+  public BackoffSleeper(Duration initialInterval, double multiplier) {
+    if (initialInterval.isNegative() || initialInterval.isZero()) {
+      throw new IllegalArgumentException("Initial polling interval must be positive.");
+    }
+    if (multiplier < 1.0) {
+      throw new IllegalArgumentException("Polling backoff multiplier cannot be less than 1.");
+    }
+    this.nextInterval = initialInterval;
+    this.multiplier = multiplier;
+  }
+
+  public BackoffSleeper() {
+    this(DEFAULT_INITIAL_INTERVAL, DEFAULT_MULTIPLIER);
+  }
+
+  @Override
+  public void sleep(Duration maxInterval) throws InterruptedException {
+    Thread.sleep(nextInterval(maxInterval).toMillis());
+  }
+
+  public Duration nextInterval(Duration maxInterval) {
+    Duration interval = nextInterval.compareTo(maxInterval) < 0 ? nextInterval : maxInterval;
+    nextInterval =
+        Duration.ofNanos((long) Math.min(Long.MAX_VALUE, interval.toNanos() * multiplier));
+    return interval;
+  }
+}
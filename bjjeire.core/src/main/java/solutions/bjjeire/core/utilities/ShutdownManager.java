@@ -1,6 +1,7 @@
 package solutions.bjjeire.core.utilities;
 
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
@@ -9,10 +10,13 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import solutions.bjjeire.core.logging.AsyncLogFlusher;
 
 @Component
 public class ShutdownManager {
   private static final Logger log = LoggerFactory.getLogger(ShutdownManager.class);
+  private static final Duration LOG_FLUSH_TIMEOUT = Duration.ofSeconds(5);
   private final List<Runnable> instructions = new CopyOnWriteArrayList<>();
   private final ExecutorService executor =
       Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
@@ -24,6 +28,8 @@ public class ShutdownManager {
   @PreDestroy
   public void runAllInstructions() {
     if (instructions.isEmpty()) {
+      flushAsyncLogs();
+      stopLogging();
       return;
     }
     log.info("Executing {} shutdown instructions...", instructions.size());
@@ -38,6 +44,24 @@ public class ShutdownManager {
           });
     }
     shutdownAndAwaitTermination(executor);
+    flushAsyncLogs();
+    stopLogging();
+  }
+
+  private void flushAsyncLogs() {
+    if (isLogbackPresent()) {
+      AsyncLogFlusher.flush(LOG_FLUSH_TIMEOUT);
+    }
+  }
+
+  private void stopLogging() {
+    if (isLogbackPresent()) {
+      AsyncLogFlusher.stopContext();
+    }
+  }
+
+  private boolean isLogbackPresent() {
+    return ClassUtils.isPresent(AsyncLogFlusher.LOGBACK_CONTEXT_CLASS, getClass().getClassLoader());
   }
 
   private void shutdownAndAwaitTermination(ExecutorService pool) {
@@ -51,6 +51,7 @@ public class Wait {
     long end = start + timeout.toMillis();
     boolean shouldThrow = false;
     Exception exceptionToThrow = null;
+    BackoffSleeper sleeper = new BackoffSleeper();
 
     while (System.currentTimeMillis() < end) {
       try {
@@ -67,7 +68,7 @@ public class Wait {
           }
         }
 
-        Wait.forMilliseconds(sleepInterval.toMillis());
+        Wait.forMilliseconds(sleeper.nextInterval(sleepInterval).toMillis());
       }
     }
 
@@ -102,13 +103,15 @@ public class Wait {
     boolean isConditionMet = false;
 
     long startTime = System.currentTimeMillis();
+    BackoffSleeper sleeper = new BackoffSleeper();
+    Duration pollingInterval = Duration.ofMillis(pollingIntervalInMilliseconds);
 
     while (!isConditionMet && (System.currentTimeMillis() - startTime) <= (timeoutInMilliseconds)) {
       try {
         if (condition.evaluate()) {
           isConditionMet = true;
         } else {
-          Thread.sleep(pollingIntervalInMilliseconds);
+          Thread.sleep(sleeper.nextInterval(pollingInterval).toMillis());
         }
       } catch (Exception ignored) {
       }
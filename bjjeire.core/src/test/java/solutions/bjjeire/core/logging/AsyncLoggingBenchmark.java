@@ -0,0 +1,115 @@
+package solutions.bjjeire.core.logging;
+
+import static net.logstash.logback.argument.StructuredArguments.keyValue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AsyncLoggingBenchmark {
+
+  private LoggerContext context;
+  private Logger synchronousLogger;
+  private Logger asynchronousLogger;
+
+  @Setup
+  public void configureLogging() {
+    context = new LoggerContext();
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    context.start();
+    synchronousLogger = logger("synchronous", jsonSink("SYNC_JSON"));
+
+    DiscardingAsyncAppender asyncAppender = new DiscardingAsyncAppender();
+    asyncAppender.setContext(context);
+    asyncAppender.setName("ASYNC_JSON");
+    asyncAppender.setQueueSize(8192);
+    asyncAppender.setDiscardingThreshold(1638);
+    asyncAppender.addAppender(jsonSink("ASYNC_DELEGATE_JSON"));
+    asyncAppender.start();
+    asynchronousLogger = logger("asynchronous", asyncAppender);
+  }
+
+  @TearDown
+  public void stopLogging() {
+    context.stop();
+  }
+
+  @Benchmark
+  public void synchronousInfo() {
+    synchronousLogger.info(
+        "Element found successfully", keyValue("component", "Button"), keyValue("index", 3));
+  }
+
+  @Benchmark
+  public void asynchronousInfo() {
+    asynchronousLogger.info(
+        "Element found successfully", keyValue("component", "Button"), keyValue("index", 3));
+  }
+
+  @Benchmark
+  public void synchronousDebug() {
+    synchronousLogger.debug(
+        "Reusing cached element", keyValue("component", "Button"), keyValue("index", 3));
+  }
+
+  @Benchmark
+  public void asynchronousDebug() {
+    asynchronousLogger.debug(
+        "Reusing cached element", keyValue("component", "Button"), keyValue("index", 3));
+  }
+
+  private Logger logger(String name, Appender<ILoggingEvent> appender) {
+    Logger logger = context.getLogger(name);
+    logger.setLevel(Level.DEBUG);
+    logger.setAdditive(false);
+    logger.addAppender(appender);
+    return logger;
+  }
+
+  private Appender<ILoggingEvent> jsonSink(String name) {
+    LogstashEncoder encoder = new LogstashEncoder();
+    encoder.setContext(context);
+    encoder.start();
+    OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+    appender.setContext(context);
+    appender.setName(name);
+    appender.setEncoder(encoder);
+    appender.setOutputStream(OutputStream.nullOutputStream());
+    appender.start();
+    return appender;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(AsyncLoggingBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
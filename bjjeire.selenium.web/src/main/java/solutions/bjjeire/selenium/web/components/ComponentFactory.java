@@ -0,0 +1,153 @@
+package solutions.bjjeire.selenium.web.components;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.springframework.beans.factory.Aware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import solutions.bjjeire.selenium.web.configuration.WebSettings;
+import solutions.bjjeire.selenium.web.services.BrowserService;
+import solutions.bjjeire.selenium.web.services.ComponentWaitService;
+import solutions.bjjeire.selenium.web.services.DriverService;
+import solutions.bjjeire.selenium.web.services.JavaScriptService;
+import solutions.bjjeire.selenium.web.waitstrategies.WaitStrategyFactory;
+
+@Slf4j
+@Component
+public class ComponentFactory {
+
+  private static final Class<?>[] CONSTRUCTOR_PARAMETERS = {
+    DriverService.class,
+    JavaScriptService.class,
+    BrowserService.class,
+    ComponentWaitService.class,
+    WebSettings.class,
+    ApplicationContext.class,
+    WaitStrategyFactory.class
+  };
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(WebComponent.class, CONSTRUCTOR_PARAMETERS);
+  private static final List<Class<? extends Annotation>> CONTAINER_ANNOTATIONS =
+      List.of(Autowired.class, Value.class, Resource.class, PostConstruct.class, PreDestroy.class);
+  private static final List<Class<?>> CONTAINER_CALLBACKS =
+      List.of(Aware.class, InitializingBean.class, DisposableBean.class);
+
+  private final Map<Class<?>, Optional<MethodHandle>> constructors = new ConcurrentHashMap<>();
+  private final DriverService driverService;
+  private final JavaScriptService javaScriptService;
+  private final BrowserService browserService;
+  private final ComponentWaitService componentWaitService;
+  private final WebSettings webSettings;
+  private final ApplicationContext applicationContext;
+  private final WaitStrategyFactory waitStrategyFactory;
+
+  public ComponentFactory(
+      DriverService driverService,
+      JavaScriptService javaScriptService,
+      BrowserService browserService,
+      ComponentWaitService componentWaitService,
+      WebSettings webSettings,
+      ApplicationContext applicationContext,
+      WaitStrategyFactory waitStrategyFactory) {
+    this.driverService = driverService;
+    this.javaScriptService = javaScriptService;
+    this.browserService = browserService;
+    this.componentWaitService = componentWaitService;
+    this.webSettings = webSettings;
+    this.applicationContext = applicationContext;
+    this.waitStrategyFactory = waitStrategyFactory;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <TComponent extends WebComponent> TComponent create(Class<TComponent> componentClass) {
+    Optional<MethodHandle> constructor =
+        constructors.computeIfAbsent(componentClass, this::resolveConstructor);
+    if (constructor.isEmpty()) {
+      return applicationContext.getBean(componentClass);
+    }
+
+    try {
+      TComponent component =
+          (TComponent)
+              (WebComponent)
+                  constructor
+                      .get()
+                      .invokeExact(
+                          driverService,
+                          javaScriptService,
+                          browserService,
+                          componentWaitService,
+                          webSettings,
+                          applicationContext,
+                          waitStrategyFactory);
+      component.setComponentFactory(this);
+      return component;
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(
+          "Failed to create component " + componentClass.getSimpleName(), e);
+    }
+  }
+
+  private Optional<MethodHandle> resolveConstructor(Class<?> componentClass) {
+    if (Modifier.isAbstract(componentClass.getModifiers())) {
+      return Optional.empty();
+    }
+    if (requiresContainer(componentClass)) {
+      log.debug(
+          "Component relies on container injection or lifecycle callbacks, using the application context",
+          StructuredArguments.keyValue("componentClass", componentClass.getSimpleName()));
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          MethodHandles.publicLookup()
+              .findConstructor(
+                  componentClass, MethodType.methodType(void.class, CONSTRUCTOR_PARAMETERS))
+              .asType(CONSTRUCTOR_TYPE));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      log.debug(
+          "No standard component constructor found, falling back to the application context",
+          StructuredArguments.keyValue("componentClass", componentClass.getSimpleName()));
+      return Optional.empty();
+    }
+  }
+
+  private static boolean requiresContainer(Class<?> componentClass) {
+    if (CONTAINER_CALLBACKS.stream()
+        .anyMatch(callback -> callback.isAssignableFrom(componentClass))) {
+      return true;
+    }
+    for (Class<?> type = componentClass; type != Object.class; type = type.getSuperclass()) {
+      if (Arrays.stream(type.getDeclaredFields()).anyMatch(ComponentFactory::isContainerManaged)
+          || Arrays.stream(type.getDeclaredMethods())
+              .anyMatch(ComponentFactory::isContainerManaged)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isContainerManaged(AnnotatedElement element) {
+    return CONTAINER_ANNOTATIONS.stream().anyMatch(element::isAnnotationPresent);
+  }
+}
@@ -0,0 +1,13 @@
+package solutions.bjjeire.selenium.web.components;
+
+import java.util.Map;
+import java.util.Optional;
+import org.openqa.selenium.Rectangle;
+
+public record ComponentSnapshot(
+    String text, boolean visible, Map<String, String> attributes, Rectangle bounds) {
+
+  public String attribute(String name) {
+    return Optional.ofNullable(attributes.get(name)).orElse("");
+  }
+}
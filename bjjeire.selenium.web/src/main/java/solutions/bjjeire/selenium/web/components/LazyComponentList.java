@@ -0,0 +1,51 @@
+package solutions.bjjeire.selenium.web.components;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.openqa.selenium.WebElement;
+
+public class LazyComponentList<TComponent extends WebComponent> extends AbstractList<TComponent>
+    implements RandomAccess {
+
+  private final Supplier<List<WebElement>> elementLocator;
+  private final IntFunction<TComponent> componentFactory;
+  private List<WebElement> nativeElements;
+  private Object[] components;
+
+  public LazyComponentList(
+      Supplier<List<WebElement>> elementLocator, IntFunction<TComponent> componentFactory) {
+    this.elementLocator = elementLocator;
+    this.componentFactory = componentFactory;
+  }
+
+  public int count() {
+    return nativeElements().size();
+  }
+
+  @Override
+  public int size() {
+    return count();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public TComponent get(int index) {
+    Objects.checkIndex(index, count());
+    if (components[index] == null) {
+      components[index] = componentFactory.apply(index);
+    }
+    return (TComponent) components[index];
+  }
+
+  private List<WebElement> nativeElements() {
+    if (nativeElements == null) {
+      nativeElements = elementLocator.get();
+      components = new Object[nativeElements.size()];
+    }
+    return nativeElements;
+  }
+}
@@ -43,7 +43,7 @@ public class Select extends WebComponent implements ComponentDisabled {
     org.openqa.selenium.support.ui.Select nativeSelect =
         new org.openqa.selenium.support.ui.Select(findElement());
 
-    var optionComponent = applicationContext.getBean(Option.class);
+    var optionComponent = componentFactory().create(Option.class);
 
     optionComponent.setFindStrategy(getFindStrategy());
     optionComponent.setElementIndex(0);
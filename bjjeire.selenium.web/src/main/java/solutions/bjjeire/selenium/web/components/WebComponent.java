@@ -4,6 +4,7 @@ import static org.apache.commons.text.StringEscapeUtils.unescapeHtml4;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +24,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Select;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -45,6 +47,7 @@ import solutions.bjjeire.selenium.web.services.BrowserService;
 import solutions.bjjeire.selenium.web.services.ComponentValidationService;
 import solutions.bjjeire.selenium.web.services.ComponentWaitService;
 import solutions.bjjeire.selenium.web.services.DriverService;
+import solutions.bjjeire.selenium.web.services.ElementCache;
 import solutions.bjjeire.selenium.web.services.JavaScriptService;
 import solutions.bjjeire.selenium.web.waitstrategies.WaitStrategy;
 import solutions.bjjeire.selenium.web.waitstrategies.WaitStrategyFactory;
@@ -70,6 +73,9 @@ public abstract class WebComponent implements BjjEireComponent {
   protected final ApplicationContext applicationContext;
   private final WaitStrategyFactory waitStrategyFactory;
 
+  @Setter(AccessLevel.PACKAGE)
+  private ComponentFactory componentFactory;
+
   public WebComponent(
       DriverService driverService,
       JavaScriptService javaScriptService,
@@ -109,7 +115,7 @@ public abstract class WebComponent implements BjjEireComponent {
       return (ComponentT) this;
     }
 
-    var component = applicationContext.getBean(componentClass);
+    var component = componentFactory().create(componentClass);
     component.setParentComponent(this.parentComponent);
     component.setParentWrappedElement(this.parentWrappedElement);
     component.setFindStrategy(this.findStrategy);
@@ -125,7 +131,7 @@ public abstract class WebComponent implements BjjEireComponent {
         wrappedElement.isDisplayed();
         return wrappedElement;
       } else {
-        return findElement();
+        return findCachedElement();
       }
     } catch (ElementNotInteractableException ex) {
       log.warn(
@@ -139,6 +145,7 @@ public abstract class WebComponent implements BjjEireComponent {
           "Stale element reference, attempting to find again",
           StructuredArguments.keyValue("component", getComponentName()),
           ex);
+      elementCache().invalidate("stale element");
       return findElement();
     } catch (WebDriverException ex) {
       log.warn(
@@ -199,7 +206,7 @@ public abstract class WebComponent implements BjjEireComponent {
   protected <TComponent extends WebComponent, TFindStrategy extends FindStrategy> TComponent create(
       Class<TComponent> componentClass, TFindStrategy findStrategy) {
     findElement();
-    TComponent component = applicationContext.getBean(componentClass);
+    TComponent component = componentFactory().create(componentClass);
     component.setFindStrategy(findStrategy);
     component.setParentComponent(this);
     component.setParentWrappedElement(this.getWrappedElement());
@@ -211,35 +218,92 @@ public abstract class WebComponent implements BjjEireComponent {
   }
 
   protected <TComponent extends WebComponent, TFindStrategy extends FindStrategy>
-      List<TComponent> createAll(Class<TComponent> componentClass, TFindStrategy findStrategy) {
-    findElement();
-    List<TComponent> componentList = new ArrayList<>();
-    var nativeElements = wrappedElement.findElements(findStrategy.convert());
-    for (int i = 0; i < nativeElements.size(); i++) {
-      var component = applicationContext.getBean(componentClass);
-      component.setFindStrategy(findStrategy);
-      component.setElementIndex(i);
-      component.setParentWrappedElement(wrappedElement);
-      componentList.add(component);
+      LazyComponentList<TComponent> createAll(
+          Class<TComponent> componentClass, TFindStrategy findStrategy) {
+    return new LazyComponentList<>(
+        () -> {
+          findElement();
+          var nativeElements = wrappedElement.findElements(findStrategy.convert());
+          log.info(
+              "Creating a list of child components",
+              StructuredArguments.keyValue("parentComponent", getComponentName()),
+              StructuredArguments.keyValue("childComponentClass", componentClass.getSimpleName()),
+              StructuredArguments.keyValue("count", nativeElements.size()));
+          return nativeElements;
+        },
+        index -> {
+          var component = componentFactory().create(componentClass);
+          component.setFindStrategy(findStrategy);
+          component.setElementIndex(index);
+          component.setParentWrappedElement(wrappedElement);
+          return component;
+        });
+  }
+
+  protected ComponentFactory componentFactory() {
+    if (componentFactory == null) {
+      componentFactory = applicationContext.getBean(ComponentFactory.class);
     }
-    log.info(
-        "Creating a list of child components",
-        StructuredArguments.keyValue("parentComponent", getComponentName()),
-        StructuredArguments.keyValue("childComponentClass", componentClass.getSimpleName()),
-        StructuredArguments.keyValue("count", nativeElements.size()));
-    return componentList;
+    return componentFactory;
+  }
+
+  private WebElement findCachedElement() {
+    WebElement cachedElement = waitStrategies.isEmpty() ? elementCache().get(cacheKey()) : null;
+    if (cachedElement == null) {
+      return findElement();
+    }
+    try {
+      cachedElement.isDisplayed();
+    } catch (StaleElementReferenceException ex) {
+      elementCache().invalidate("stale cached element");
+      return findElement();
+    }
+    wrappedElement = cachedElement;
+    scrollToMakeElementVisible(wrappedElement);
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "Reusing cached element", StructuredArguments.keyValue("component", getComponentName()));
+    }
+    return wrappedElement;
+  }
+
+  private String cacheKey() {
+    String scope;
+    if (parentComponent != null) {
+      scope = parentComponent.cacheKey();
+    } else if (parentWrappedElement == null) {
+      scope = "";
+    } else if (parentWrappedElement instanceof RemoteWebElement parentElement) {
+      scope = parentElement.getId();
+    } else {
+      scope = null;
+    }
+    if (scope == null || findStrategy == null) {
+      return null;
+    }
+    return "%s > %s(%s)[%d]"
+        .formatted(
+            scope, findStrategy.getClass().getSimpleName(), findStrategy.getValue(), elementIndex);
+  }
+
+  private ElementCache elementCache() {
+    return driverService.getElementCache();
   }
 
   public WebElement findElement() {
-    log.info(
-        "Attempting to find element",
-        StructuredArguments.keyValue("component", getComponentName()));
+    if (log.isInfoEnabled()) {
+      log.info(
+          "Attempting to find element",
+          StructuredArguments.keyValue("component", getComponentName()));
+    }
 
     if (waitStrategies.isEmpty()) {
       waitStrategies.add(waitStrategyFactory.exist());
-      log.debug(
-          "No wait strategies specified, defaulting to 'exist' strategy",
-          StructuredArguments.keyValue("component", getComponentName()));
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "No wait strategies specified, defaulting to 'exist' strategy",
+            StructuredArguments.keyValue("component", getComponentName()));
+      }
     }
 
     try {
@@ -247,11 +311,14 @@ public abstract class WebComponent implements BjjEireComponent {
         componentWaitService.wait(this, waitStrategy);
       }
       wrappedElement = findNativeElement();
+      elementCache().put(cacheKey(), wrappedElement);
       scrollToMakeElementVisible(wrappedElement);
       waitStrategies.clear();
-      log.info(
-          "Element found successfully",
-          StructuredArguments.keyValue("component", getComponentName()));
+      if (log.isInfoEnabled()) {
+        log.info(
+            "Element found successfully",
+            StructuredArguments.keyValue("component", getComponentName()));
+      }
     } catch (Exception ex) {
       var formattedException =
           """
@@ -371,7 +438,7 @@ public abstract class WebComponent implements BjjEireComponent {
     return create(componentClass, new DataTestIdFindStrategy(dataTestId));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> createAllByDataTestId(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> createAllByDataTestId(
       Class<TComponent> componentClass, String dataTestId) {
     log.info(
         "Creating all components by data-test-id",
@@ -398,7 +465,7 @@ public abstract class WebComponent implements BjjEireComponent {
     return create(componentClass, new XPathFindStrategy(xpath));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> createAllByXPath(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> createAllByXPath(
       Class<TComponent> componentClass, String xpath) {
     log.info(
         "Creating all components by XPath",
@@ -438,6 +505,17 @@ public abstract class WebComponent implements BjjEireComponent {
     }
   }
 
+  public ComponentSnapshot snapshot(String... attributes) {
+    ComponentSnapshot snapshot =
+        javaScriptService.snapshot(List.of(getWrappedElement()), List.of(attributes)).get(0);
+    log.debug(
+        "Captured component snapshot",
+        StructuredArguments.keyValue("component", getComponentName()),
+        StructuredArguments.keyValue("text", snapshot.text()),
+        StructuredArguments.keyValue("isVisible", snapshot.visible()));
+    return snapshot;
+  }
+
   public boolean isVisible() {
     try {
       boolean isDisplayed = getWrappedElement().isDisplayed();
@@ -456,13 +534,14 @@ public abstract class WebComponent implements BjjEireComponent {
   }
 
   private void clickInternal() {
-    long toBeClickableTimeout = webSettings.getTimeoutSettings().getElementToBeClickableTimeout();
-    long sleepInterval = webSettings.getTimeoutSettings().getSleepInterval();
+    var timeoutSettings = webSettings.getTimeoutSettings();
+    long toBeClickableTimeout = timeoutSettings.getElementToBeClickableTimeout();
 
     FluentWait<WebDriver> wait =
-        new FluentWait<>(getWrappedDriver())
+        new FluentWait<>(
+                getWrappedDriver(), Clock.systemDefaultZone(), timeoutSettings.newPollingSleeper())
             .withTimeout(Duration.ofSeconds(toBeClickableTimeout))
-            .pollingEvery(Duration.ofSeconds(sleepInterval > 0 ? sleepInterval : 1));
+            .pollingEvery(timeoutSettings.getMaxPollingInterval());
 
     try {
       wait.until(x -> tryClick());
@@ -474,6 +553,7 @@ public abstract class WebComponent implements BjjEireComponent {
           e);
       javaScriptService.execute("arguments[0].click()", findElement());
     }
+    elementCache().invalidate("click");
   }
 
   private boolean tryClick() {
@@ -694,6 +774,7 @@ public abstract class WebComponent implements BjjEireComponent {
         StructuredArguments.keyValue("component", getComponentName()),
         StructuredArguments.keyValue("textToSelect", value));
     new Select(getWrappedElement()).selectByVisibleText(value);
+    elementCache().invalidate("select");
   }
 
   protected void defaultSetText(String value) {
@@ -703,6 +784,7 @@ public abstract class WebComponent implements BjjEireComponent {
         StructuredArguments.keyValue("textToSet", value));
     getWrappedElement().clear();
     getWrappedElement().sendKeys(value);
+    elementCache().invalidate("set text");
   }
 
   protected void defaultSelectByIndex(int value) {
@@ -711,5 +793,6 @@ public abstract class WebComponent implements BjjEireComponent {
         StructuredArguments.keyValue("component", getComponentName()),
         StructuredArguments.keyValue("indexToSelect", value));
     new Select(getWrappedElement()).selectByIndex(value);
+    elementCache().invalidate("select");
   }
 }
@@ -0,0 +1,27 @@
+package solutions.bjjeire.selenium.web.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class ResourceBlockingSettings {
+
+  private boolean enabled;
+  private boolean blockImages = true;
+  private boolean blockFonts = true;
+
+  @NotNull(message = "Blocked URL patterns cannot be null.")
+  private List<String> blockedUrlPatterns = new ArrayList<>();
+
+  public List<String> getEffectiveUrlPatterns() {
+    List<String> patterns = new ArrayList<>(blockedUrlPatterns);
+    if (blockFonts) {
+      patterns.addAll(List.of("*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot"));
+    }
+    return patterns;
+  }
+}
@@ -0,0 +1,25 @@
+package solutions.bjjeire.selenium.web.configuration;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class SessionPoolSettings {
+
+  private boolean enabled;
+
+  @PositiveOrZero(message = "Pre-warmed session count must be a non-negative number.")
+  private int prewarmCount = 2;
+
+  @Positive(message = "Maximum idle sessions must be positive.")
+  private int maxIdlePerConfiguration = 4;
+
+  @Positive(message = "Session launch threads must be positive.")
+  private int launchThreads = 2;
+
+  @Positive(message = "Session lease timeout must be positive.")
+  private long leaseTimeoutSeconds = 120;
+}
@@ -0,0 +1,34 @@
+package solutions.bjjeire.selenium.web.configuration;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "test-data-settings")
+@Data
+@Validated
+public class TestDataSettings {
+
+  @Positive(message = "Seeding concurrency must be positive.")
+  private int concurrency = 8;
+
+  @PositiveOrZero(message = "Seeding rate must be a non-negative number (0 disables limiting).")
+  private int ratePerSecond = 50;
+
+  @PositiveOrZero(message = "Seeding retry attempts must be a non-negative number.")
+  private int maxRetryAttempts = 2;
+
+  @PositiveOrZero(message = "Seeding retry backoff must be a non-negative number.")
+  private long retryBackoffMillis = 250;
+
+  @Positive(message = "Seeding timeout must be positive.")
+  private long timeoutSeconds = 300;
+
+  @PositiveOrZero(message = "Seeding timeout grace period must be a non-negative number.")
+  private long timeoutGraceSeconds = 30;
+
+  @Positive(message = "Seeding progress interval must be positive.")
+  private int progressInterval = 100;
+}
@@ -1,8 +1,12 @@
 package solutions.bjjeire.selenium.web.configuration;
 
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.validation.annotation.Validated;
+import solutions.bjjeire.core.utilities.BackoffSleeper;
 
 @Data
 @Validated
@@ -55,4 +59,30 @@ public class TimeoutSettings {
 
   @PositiveOrZero(message = "Timeout must be a non-negative value.")
   private long elementToHaveContentTimeout;
+
+  @PositiveOrZero(message = "Timeout must be a non-negative value.")
+  private long browserQuitTimeout = 30;
+
+  @PositiveOrZero(message = "Network idle quiet period must be a non-negative value.")
+  private long networkIdleQuietPeriodMillis = 500;
+
+  @Positive(message = "Initial polling interval must be positive.")
+  private long initialPollingIntervalMillis = 50;
+
+  @PositiveOrZero(message = "Maximum polling interval must be a non-negative value.")
+  private long maxPollingIntervalMillis;
+
+  @DecimalMin(value = "1.0", message = "Polling backoff multiplier cannot be less than 1.")
+  private double pollingBackoffMultiplier = BackoffSleeper.DEFAULT_MULTIPLIER;
+
+  public Duration getMaxPollingInterval() {
+    return maxPollingIntervalMillis > 0
+        ? Duration.ofMillis(maxPollingIntervalMillis)
+        : Duration.ofSeconds(sleepInterval > 0 ? sleepInterval : 1);
+  }
+
+  public BackoffSleeper newPollingSleeper() {
+    return new BackoffSleeper(
+        Duration.ofMillis(initialPollingIntervalMillis), pollingBackoffMultiplier);
+  }
 }
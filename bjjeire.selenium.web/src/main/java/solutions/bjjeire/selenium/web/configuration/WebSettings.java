@@ -43,8 +43,20 @@ public class WebSettings {
   @Valid
   private TimeoutSettings timeoutSettings;
 
+  @NotNull(message = "Session pool settings must be configured.")
+  @Valid
+  private SessionPoolSettings sessionPool = new SessionPoolSettings();
+
+  @NotNull(message = "Resource blocking settings must be configured.")
+  @Valid
+  private ResourceBlockingSettings resourceBlocking = new ResourceBlockingSettings();
+
   private boolean automaticallyScrollToVisible;
   private boolean waitUntilReadyOnElementFound;
+  private boolean eventDrivenWaitsEnabled;
+  private boolean elementCacheEnabled;
+  private boolean networkTrackingEnabled;
+  private boolean waitForPageDataOnOpen;
 
   private boolean screenshotsOnFailEnabled;
   private String screenshotsSaveLocation;
@@ -1,25 +1,41 @@
 package solutions.bjjeire.selenium.web.data;
 
+import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 import solutions.bjjeire.api.auth.BearerTokenAuth;
 import solutions.bjjeire.api.client.BjjEventsApiClient;
 import solutions.bjjeire.api.client.GymsApiClient;
+import solutions.bjjeire.api.exceptions.NotSuccessfulRequestException;
 import solutions.bjjeire.api.services.AuthService;
+import solutions.bjjeire.api.validation.ApiResponse;
 import solutions.bjjeire.core.data.events.BjjEvent;
 import solutions.bjjeire.core.data.events.CreateBjjEventCommand;
 import solutions.bjjeire.core.data.events.CreateBjjEventResponse;
 import solutions.bjjeire.core.data.gyms.CreateGymCommand;
 import solutions.bjjeire.core.data.gyms.CreateGymResponse;
 import solutions.bjjeire.core.data.gyms.Gym;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.selenium.web.configuration.TestDataSettings;
 
 @Service
 @Slf4j
@@ -28,9 +44,12 @@ import solutions.bjjeire.core.data.gyms.Gym;
 @RequiredArgsConstructor
 public class ApiTestDataManager implements TestDataManager {
 
+  private static final int MAX_ERROR_BODY_LENGTH = 300;
+
   private final AuthService authService;
   private final BjjEventsApiClient eventsApiClient;
   private final GymsApiClient gymsApiClient;
+  private final TestDataSettings testDataSettings;
 
   @Override
   public String authenticate() {
@@ -44,32 +63,22 @@ public class ApiTestDataManager implements TestDataManager {
       return Collections.emptyList();
     }
 
-    log.info(
-        "Seeding {} entities for UI test",
-        entities.size(),
-        StructuredArguments.keyValue("entityType", entities.get(0).getClass().getSimpleName()));
-
-    BearerTokenAuth auth = new BearerTokenAuth(authToken);
-
-    return Flux.fromIterable(entities)
-        .flatMap(
-            entity -> {
-              if (entity instanceof BjjEvent event) {
-                return eventsApiClient
-                    .createEvent(auth, new CreateBjjEventCommand(event))
-                    .map(response -> response.as(CreateBjjEventResponse.class).data().id());
-              }
-              if (entity instanceof Gym gym) {
-                return gymsApiClient
-                    .createGym(auth, new CreateGymCommand(gym))
-                    .map(response -> response.as(CreateGymResponse.class).data().id());
-              }
-              return Flux.error(
-                  new IllegalArgumentException(
-                      "Unsupported entity type for seeding: " + entity.getClass()));
-            })
-        .collectList()
-        .block(Duration.ofSeconds(30));
+    BulkOperationResult result = seedBulk(entities, authToken);
+    if (result.hasFailures()) {
+      Class<?> entityType = entities.get(0).getClass();
+      boolean singleType = entities.stream().allMatch(entity -> entity.getClass() == entityType);
+      if (singleType && !result.succeededIds().isEmpty()) {
+        teardownBulk(entityType, result.succeededIds(), authToken);
+      }
+      throw new IllegalStateException(
+          String.format(
+              "Seeding failed for %d of %d %s entities:%n%s",
+              result.failures().size(),
+              result.requested(),
+              result.entityType(),
+              result.describeFailures()));
+    }
+    return result.succeededIds();
   }
 
   @Override
@@ -78,29 +87,261 @@ public class ApiTestDataManager implements TestDataManager {
       return;
     }
 
-    log.info(
-        "Tearing down {} entities for UI test",
-        ids.size(),
-        StructuredArguments.keyValue("entityType", entityType.getSimpleName()));
+    BulkOperationResult result = teardownBulk(entityType, ids, authToken);
+    if (result.hasFailures()) {
+      log.warn(
+          "Teardown incomplete; entities were left behind",
+          StructuredArguments.kv("eventType", "test_data_teardown_incomplete"),
+          StructuredArguments.kv("entityType", result.entityType()),
+          StructuredArguments.kv("requested", result.requested()),
+          StructuredArguments.kv("failed", result.failures().size()),
+          StructuredArguments.kv("failures", result.describeFailures()));
+      return;
+    }
+    log.info("Teardown complete for {}", entityType.getSimpleName());
+  }
 
+  @Override
+  public <T> BulkOperationResult seedBulk(List<T> entities, String authToken) {
+    String entityType =
+        entities == null || entities.isEmpty()
+            ? "none"
+            : entities.get(0).getClass().getSimpleName();
     BearerTokenAuth auth = new BearerTokenAuth(authToken);
 
-    var teardownFlux =
-        Flux.fromIterable(ids)
-            .flatMap(
-                id -> {
-                  if (BjjEvent.class.equals(entityType)) {
-                    return eventsApiClient.deleteEvent(auth, id);
-                  }
-                  if (Gym.class.equals(entityType)) {
-                    return gymsApiClient.deleteGym(auth, id);
-                  }
-                  return Flux.error(
-                      new IllegalArgumentException(
-                          "Unsupported entity type for teardown: " + entityType));
-                });
-
-    teardownFlux.then().block(Duration.ofSeconds(30));
-    log.info("Teardown complete for {}", entityType.getSimpleName());
+    return runBulk(
+        "seed",
+        entityType,
+        entities == null ? Collections.emptyList() : entities,
+        entity -> create(auth, entity),
+        this::isRetryableCreate,
+        index -> entityType + "[" + index + "]");
   }
+
+  @Override
+  public <T> BulkOperationResult teardownBulk(
+      Class<T> entityType, List<String> ids, String authToken) {
+    BearerTokenAuth auth = new BearerTokenAuth(authToken);
+    List<String> idsToDelete = ids == null ? Collections.emptyList() : ids;
+
+    return runBulk(
+        "teardown",
+        entityType.getSimpleName(),
+        idsToDelete,
+        id -> delete(auth, entityType, id),
+        this::isRetryableDelete,
+        idsToDelete::get);
+  }
+
+  private <I> BulkOperationResult runBulk(
+      String operation,
+      String entityType,
+      List<I> items,
+      Function<I, Mono<String>> action,
+      Predicate<Throwable> retryable,
+      IntFunction<String> reference) {
+    if (items.isEmpty()) {
+      return new BulkOperationResult(operation, entityType, 0, List.of(), List.of(), Duration.ZERO);
+    }
+
+    long startTime = System.nanoTime();
+    AtomicInteger completed = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+
+    log.info(
+        "Bulk test data operation started",
+        StructuredArguments.kv("eventType", "test_data_bulk_start"),
+        StructuredArguments.kv("operation", operation),
+        StructuredArguments.kv("entityType", entityType),
+        StructuredArguments.kv("count", items.size()),
+        StructuredArguments.kv("concurrency", testDataSettings.getConcurrency()),
+        StructuredArguments.kv("rate_per_second", testDataSettings.getRatePerSecond()));
+
+    Duration timeout = Duration.ofSeconds(testDataSettings.getTimeoutSeconds());
+    Duration grace = Duration.ofSeconds(testDataSettings.getTimeoutGraceSeconds());
+    Map<Integer, Outcome> outcomes = new ConcurrentHashMap<>();
+    Set<Integer> started = ConcurrentHashMap.newKeySet();
+    paced(Flux.range(0, items.size()))
+        .takeUntilOther(Mono.delay(timeout))
+        .flatMap(
+            index ->
+                Mono.defer(
+                        () -> {
+                          started.add(index);
+                          return action.apply(items.get(index));
+                        })
+                    .retryWhen(retrySpec(retryable))
+                    .map(id -> new Outcome(id, null))
+                    .onErrorResume(
+                        error ->
+                            Mono.just(
+                                new Outcome(
+                                    null,
+                                    new BulkOperationFailure(
+                                        index,
+                                        reference.apply(index),
+                                        String.valueOf(error.getMessage())))))
+                    .doOnNext(
+                        outcome -> {
+                          outcomes.put(index, outcome);
+                          reportProgress(
+                              operation,
+                              entityType,
+                              items.size(),
+                              completed.incrementAndGet(),
+                              outcome.failure() != null ? failed.incrementAndGet() : failed.get());
+                        }),
+            testDataSettings.getConcurrency())
+        .take(timeout.plus(grace))
+        .then()
+        .block();
+
+    List<String> succeededIds = new ArrayList<>();
+    List<BulkOperationFailure> failures = new ArrayList<>();
+    for (int index = 0; index < items.size(); index++) {
+      Outcome outcome = outcomes.get(index);
+      if (outcome == null && !started.contains(index)) {
+        failures.add(
+            new BulkOperationFailure(
+                index,
+                reference.apply(index),
+                "Not started within the " + timeout.toSeconds() + "s timeout"));
+      } else if (outcome == null) {
+        failures.add(
+            new BulkOperationFailure(
+                index,
+                reference.apply(index),
+                "Still in flight after the "
+                    + timeout.plus(grace).toSeconds()
+                    + "s timeout and grace period"
+                    + ("seed".equals(operation)
+                        ? "; any entity it created is not tracked for teardown"
+                        : "")));
+      } else if (outcome.failure() != null) {
+        failures.add(outcome.failure());
+      } else {
+        succeededIds.add(outcome.id());
+      }
+    }
+    BulkOperationResult result =
+        new BulkOperationResult(
+            operation,
+            entityType,
+            items.size(),
+            succeededIds,
+            failures,
+            Duration.ofNanos(System.nanoTime() - startTime));
+    TestTimings.record(
+        "seed".equals(operation) ? TestTimings.DATA_SEEDING : TestTimings.DATA_TEARDOWN,
+        result.elapsed().toMillis());
+
+    log.info(
+        "Bulk test data operation finished",
+        StructuredArguments.kv("eventType", "test_data_bulk_complete"),
+        StructuredArguments.kv("operation", operation),
+        StructuredArguments.kv("entityType", entityType),
+        StructuredArguments.kv("requested", result.requested()),
+        StructuredArguments.kv("succeeded", result.succeededIds().size()),
+        StructuredArguments.kv("failed", result.failures().size()),
+        StructuredArguments.kv("duration_ms", result.elapsed().toMillis()));
+    return result;
+  }
+
+  private Mono<String> create(BearerTokenAuth auth, Object entity) {
+    if (entity instanceof BjjEvent event) {
+      return eventsApiClient
+          .createEvent(auth, new CreateBjjEventCommand(event))
+          .flatMap(this::requireSuccess)
+          .map(response -> response.as(CreateBjjEventResponse.class).data().id());
+    }
+    if (entity instanceof Gym gym) {
+      return gymsApiClient
+          .createGym(auth, new CreateGymCommand(gym))
+          .flatMap(this::requireSuccess)
+          .map(response -> response.as(CreateGymResponse.class).data().id());
+    }
+    return Mono.error(
+        new IllegalArgumentException("Unsupported entity type for seeding: " + entity.getClass()));
+  }
+
+  private Mono<String> delete(BearerTokenAuth auth, Class<?> entityType, String id) {
+    Mono<ApiResponse> deletion;
+    if (BjjEvent.class.equals(entityType)) {
+      deletion = eventsApiClient.deleteEvent(auth, id);
+    } else if (Gym.class.equals(entityType)) {
+      deletion = gymsApiClient.deleteGym(auth, id);
+    } else {
+      return Mono.error(
+          new IllegalArgumentException("Unsupported entity type for teardown: " + entityType));
+    }
+    return deletion
+        .flatMap(
+            response ->
+                response.getStatusCode() == 404 ? Mono.just(response) : requireSuccess(response))
+        .thenReturn(id);
+  }
+
+  private Mono<ApiResponse> requireSuccess(ApiResponse response) {
+    int statusCode = response.getStatusCode();
+    if (statusCode >= 200 && statusCode < 300) {
+      return Mono.just(response);
+    }
+    String body = response.getBodyAsString();
+    if (body != null && body.length() > MAX_ERROR_BODY_LENGTH) {
+      body = body.substring(0, MAX_ERROR_BODY_LENGTH) + "...";
+    }
+    return Mono.error(
+        new NotSuccessfulRequestException(
+            String.format(
+                "%s %s returned status %d: %s",
+                response.getRequestMethod(), response.getRequestPath(), statusCode, body),
+            statusCode));
+  }
+
+  private Flux<Integer> paced(Flux<Integer> indexes) {
+    int ratePerSecond = testDataSettings.getRatePerSecond();
+    return ratePerSecond > 0
+        ? indexes.delayElements(Duration.ofNanos(1_000_000_000L / ratePerSecond))
+        : indexes;
+  }
+
+  private Retry retrySpec(Predicate<Throwable> retryable) {
+    return Retry.backoff(
+            testDataSettings.getMaxRetryAttempts(),
+            Duration.ofMillis(testDataSettings.getRetryBackoffMillis()))
+        .filter(retryable)
+        .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure());
+  }
+
+  private boolean isRetryableCreate(Throwable error) {
+    if (error instanceof NotSuccessfulRequestException notSuccessful) {
+      return notSuccessful.getStatusCode() == 429;
+    }
+    return error instanceof WebClientRequestException
+        && error.getCause() instanceof ConnectException;
+  }
+
+  private boolean isRetryableDelete(Throwable error) {
+    if (error instanceof NotSuccessfulRequestException notSuccessful) {
+      int statusCode = notSuccessful.getStatusCode();
+      return statusCode == 429 || statusCode >= 500;
+    }
+    return error instanceof WebClientRequestException;
+  }
+
+  private void reportProgress(
+      String operation, String entityType, int total, int completed, int failed) {
+    if (completed % testDataSettings.getProgressInterval() == 0 || completed == total) {
+      log.info(
+          "Bulk test data operation progress",
+          StructuredArguments.kv("eventType", "test_data_bulk_progress"),
+          StructuredArguments.kv("operation", operation),
+          StructuredArguments.kv("entityType", entityType),
+          StructuredArguments.kv("completed", completed),
+          StructuredArguments.kv("failed", failed),
+          StructuredArguments.kv("total", total));
+    }
+  }
+
+  private record Outcome(String id, BulkOperationFailure failure) {}
 }
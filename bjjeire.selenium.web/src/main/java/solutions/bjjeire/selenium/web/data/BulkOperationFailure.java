@@ -0,0 +1,3 @@
+package solutions.bjjeire.selenium.web.data;
+
+public record BulkOperationFailure(int index, String reference, String error) {}
@@ -0,0 +1,27 @@
+package solutions.bjjeire.selenium.web.data;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record BulkOperationResult(
+    String operation,
+    String entityType,
+    int requested,
+    List<String> succeededIds,
+    List<BulkOperationFailure> failures,
+    Duration elapsed) {
+
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+
+  public String describeFailures() {
+    return failures.stream()
+        .map(
+            failure ->
+                String.format(
+                    "#%d (%s): %s", failure.index(), failure.reference(), failure.error()))
+        .collect(Collectors.joining(System.lineSeparator()));
+  }
+}
@@ -9,4 +9,8 @@ public interface TestDataManager {
   <T> List<String> seed(List<T> entities, String authToken);
 
   <T> void teardown(Class<T> entityType, List<String> ids, String authToken);
+
+  <T> BulkOperationResult seedBulk(List<T> entities, String authToken);
+
+  <T> BulkOperationResult teardownBulk(Class<T> entityType, List<String> ids, String authToken);
 }
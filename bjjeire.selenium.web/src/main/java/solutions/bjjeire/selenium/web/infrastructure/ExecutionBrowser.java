@@ -8,6 +8,7 @@ import org.openqa.selenium.Platform;
 import solutions.bjjeire.core.plugins.Browser;
 import solutions.bjjeire.core.plugins.DeviceName;
 import solutions.bjjeire.core.plugins.Lifecycle;
+import solutions.bjjeire.core.plugins.ResourceBlocking;
 
 @Target({ElementType.TYPE, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -25,4 +26,6 @@ public @interface ExecutionBrowser {
   int height() default 0;
 
   DeviceName deviceName() default DeviceName.NOT_SET;
+
+  ResourceBlocking resourceBlocking() default ResourceBlocking.NOT_SET;
 }
@@ -7,13 +7,14 @@ import static solutions.bjjeire.selenium.web.utils.CommonDataTestIds.SELECT_FILT
 import static solutions.bjjeire.selenium.web.utils.EventsPageDataTestIds.EVENTS_LIST_ITEM;
 import static solutions.bjjeire.selenium.web.utils.EventsPageDataTestIds.EVENTS_PAGE_HEADER_TITLE;
 import static solutions.bjjeire.selenium.web.utils.EventsPageDataTestIds.EVENTS_PAGE_HEADER_TOTAL;
+import static solutions.bjjeire.selenium.web.utils.EventsPageDataTestIds.EVENT_CARD_NAME;
 
 import java.util.List;
 import java.util.stream.Collectors;
-import org.openqa.selenium.NoSuchElementException;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.endpoints.BjjEventEndpoints;
 import solutions.bjjeire.core.data.events.BjjEventType;
 import solutions.bjjeire.selenium.web.components.Button;
 import solutions.bjjeire.selenium.web.components.Heading;
@@ -25,20 +26,34 @@ import solutions.bjjeire.selenium.web.configuration.UrlSettings;
 import solutions.bjjeire.selenium.web.pages.ListPageBase;
 import solutions.bjjeire.selenium.web.pages.events.data.EventCardDetails;
 import solutions.bjjeire.selenium.web.services.ComponentCreateService;
+import solutions.bjjeire.selenium.web.services.ComponentValidationService;
 import solutions.bjjeire.selenium.web.services.NavigationService;
+import solutions.bjjeire.selenium.web.services.NetworkTrackingService;
 
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class EventsPage extends ListPageBase {
 
   private final UrlSettings urlSettings;
+  private final NetworkTrackingService networkTrackingService;
+  private final ComponentValidationService validator;
 
   public EventsPage(
       NavigationService navigationService,
       ComponentCreateService componentCreateService,
-      UrlSettings urlSettings) {
+      UrlSettings urlSettings,
+      NetworkTrackingService networkTrackingService,
+      ComponentValidationService validator) {
     super(navigationService, componentCreateService);
     this.urlSettings = urlSettings;
+    this.networkTrackingService = networkTrackingService;
+    this.validator = validator;
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    networkTrackingService.waitForPageData(BjjEventEndpoints.BJJ_EVENTS);
   }
 
   @Override
@@ -95,18 +110,11 @@ public class EventsPage extends ListPageBase {
   }
 
   public EventsPage assertEventIsInList(EventCardDetails eventCard) {
-
-    EventArticle cardToAssert =
-        eventCards().stream()
-            .filter(card -> card.headingText().getText().trim().equals(eventCard.name()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        "Could not find an event card with the name: " + eventCard.name()));
-
-    cardToAssert.headingText().validateTextIs(eventCard.name());
-
+    validator.anySnapshotMatches(
+        "event card names",
+        () -> create().snapshotAllByDataTestId(EVENT_CARD_NAME),
+        snapshot -> snapshot.visible() && eventCard.name().equals(snapshot.text()),
+        eventCard.name());
     return this;
   }
 
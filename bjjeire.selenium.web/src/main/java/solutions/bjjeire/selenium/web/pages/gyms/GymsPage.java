@@ -6,12 +6,13 @@ import static solutions.bjjeire.selenium.web.utils.CommonDataTestIds.SELECT_FILT
 import static solutions.bjjeire.selenium.web.utils.GymsPageDataTestIds.GYMS_LIST_ITEM;
 import static solutions.bjjeire.selenium.web.utils.GymsPageDataTestIds.GYMS_PAGE_HEADER_TITLE;
 import static solutions.bjjeire.selenium.web.utils.GymsPageDataTestIds.GYMS_PAGE_HEADER_TOTAL;
+import static solutions.bjjeire.selenium.web.utils.GymsPageDataTestIds.GYM_CARD_NAME;
 
 import java.util.List;
-import org.openqa.selenium.NoSuchElementException;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import solutions.bjjeire.api.endpoints.GymEndpoints;
 import solutions.bjjeire.selenium.web.components.Heading;
 import solutions.bjjeire.selenium.web.components.Label;
 import solutions.bjjeire.selenium.web.components.Paragraph;
@@ -21,20 +22,34 @@ import solutions.bjjeire.selenium.web.configuration.UrlSettings;
 import solutions.bjjeire.selenium.web.pages.ListPageBase;
 import solutions.bjjeire.selenium.web.pages.gyms.data.GymCardDetails;
 import solutions.bjjeire.selenium.web.services.ComponentCreateService;
+import solutions.bjjeire.selenium.web.services.ComponentValidationService;
 import solutions.bjjeire.selenium.web.services.NavigationService;
+import solutions.bjjeire.selenium.web.services.NetworkTrackingService;
 
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class GymsPage extends ListPageBase {
 
   private final UrlSettings urlSettings;
+  private final NetworkTrackingService networkTrackingService;
+  private final ComponentValidationService validator;
 
   public GymsPage(
       NavigationService navigationService,
       ComponentCreateService componentCreateService,
-      UrlSettings urlSettings) {
+      UrlSettings urlSettings,
+      NetworkTrackingService networkTrackingService,
+      ComponentValidationService validator) {
     super(navigationService, componentCreateService);
     this.urlSettings = urlSettings;
+    this.networkTrackingService = networkTrackingService;
+    this.validator = validator;
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    networkTrackingService.waitForPageData(GymEndpoints.GYMS);
   }
 
   @Override
@@ -100,16 +115,11 @@ public class GymsPage extends ListPageBase {
   }
 
   public GymsPage assertGymIsInList(GymCardDetails gymCard) {
-    GymArticle cardToAssert =
-        gymCards().stream()
-            .filter(card -> card.headingText().getText().trim().equals(gymCard.name()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        "Could not find an gym card with the name: " + gymCard.name()));
-
-    cardToAssert.headingText().validateTextIs(gymCard.name());
+    validator.anySnapshotMatches(
+        "gym card names",
+        () -> create().snapshotAllByDataTestId(GYM_CARD_NAME),
+        snapshot -> snapshot.visible() && gymCard.name().equals(snapshot.text()),
+        gymCard.name());
     return this;
   }
 }
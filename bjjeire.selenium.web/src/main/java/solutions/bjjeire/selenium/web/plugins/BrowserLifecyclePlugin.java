@@ -52,9 +52,9 @@ public class BrowserLifecyclePlugin implements Plugin {
     log.debug(
         "Executing post-after-test hook",
         StructuredArguments.keyValue("methodName", memberInfo.getName()),
-        StructuredArguments.keyValue("testResult", testResult.name()));
-    // StructuredArguments.keyValue("durationMillis",
-    // timeRecord.getDurationMillis()));
+        StructuredArguments.keyValue("testResult", testResult.name()),
+        StructuredArguments.keyValue("durationMillis", timeRecord.getDuration()),
+        StructuredArguments.keyValue("phaseDurationsMillis", timeRecord.getPhaseDurations()));
 
     handleBrowserShutdown(testResult, this.currentBrowserConfiguration.get());
   }
@@ -158,12 +158,30 @@ public class BrowserLifecyclePlugin implements Plugin {
         getExecutionBrowserClassLevel(memberInfo.getDeclaringClass());
     BrowserConfiguration methodConfig = getExecutionBrowserMethodLevel(memberInfo);
     BrowserConfiguration result = (methodConfig != null) ? methodConfig : classConfig;
+    result.setResourceBlocking(resolveResourceBlocking(memberInfo));
     String testFullName =
         String.format("%s.%s", memberInfo.getDeclaringClass().getName(), memberInfo.getName());
     result.setTestName(testFullName);
     return result;
   }
 
+  private boolean resolveResourceBlocking(Method memberInfo) {
+    boolean resourceBlocking = webSettings.getResourceBlocking().isEnabled();
+    Class<?> clazz = memberInfo.getDeclaringClass();
+    if (clazz.isAnnotationPresent(ExecutionBrowser.class)) {
+      resourceBlocking =
+          clazz.getAnnotation(ExecutionBrowser.class).resourceBlocking().resolve(resourceBlocking);
+    }
+    if (memberInfo.isAnnotationPresent(ExecutionBrowser.class)) {
+      resourceBlocking =
+          memberInfo
+              .getAnnotation(ExecutionBrowser.class)
+              .resourceBlocking()
+              .resolve(resourceBlocking);
+    }
+    return resourceBlocking;
+  }
+
   private BrowserConfiguration getExecutionBrowserMethodLevel(Method memberInfo) {
     if (!memberInfo.isAnnotationPresent(ExecutionBrowser.class)) return null;
     ExecutionBrowser annotation = memberInfo.getAnnotation(ExecutionBrowser.class);
@@ -38,6 +38,7 @@ public class BrowserService extends WebService {
 
     log.info("Refreshing the current page");
     getWrappedDriver().navigate().refresh();
+    driverService.getElementCache().invalidate("refresh");
   }
 
   public void waitUntilPageLoadsCompletely() {
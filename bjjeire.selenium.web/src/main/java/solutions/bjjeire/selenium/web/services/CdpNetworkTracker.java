@@ -0,0 +1,71 @@
+package solutions.bjjeire.selenium.web.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+@Slf4j
+class CdpNetworkTracker {
+
+  private record NetworkEvent(String requestId, String url) {}
+
+  private final Map<String, String> inFlightRequests = new ConcurrentHashMap<>();
+  private final Queue<String> completedUrls = new ConcurrentLinkedQueue<>();
+  private volatile long lastActivityNanos = System.nanoTime();
+
+  CdpNetworkTracker(DevTools devTools) {
+    devTools.createSessionIfThereIsNotOne();
+    devTools.addListener(
+        new Event<>("Network.requestWillBeSent", CdpNetworkTracker::readEvent),
+        event -> {
+          inFlightRequests.put(event.requestId(), event.url());
+          lastActivityNanos = System.nanoTime();
+        });
+    devTools.addListener(
+        new Event<>("Network.loadingFinished", CdpNetworkTracker::readEvent), this::complete);
+    devTools.addListener(
+        new Event<>("Network.loadingFailed", CdpNetworkTracker::readEvent), this::complete);
+    devTools.send(new Command<Void>("Network.enable", Map.of()));
+    log.debug("CDP network tracking enabled");
+  }
+
+  void reset() {
+    inFlightRequests.clear();
+    completedUrls.clear();
+    lastActivityNanos = System.nanoTime();
+  }
+
+  boolean hasCompleted(String urlFragment) {
+    return completedUrls.stream().anyMatch(url -> url.contains(urlFragment))
+        && inFlightRequests.values().stream().noneMatch(url -> url.contains(urlFragment));
+  }
+
+  boolean isIdle(Duration quietPeriod) {
+    return inFlightRequests.isEmpty()
+        && System.nanoTime() - lastActivityNanos >= quietPeriod.toNanos();
+  }
+
+  private void complete(NetworkEvent event) {
+    String url = inFlightRequests.remove(event.requestId());
+    if (url != null) {
+      completedUrls.add(url);
+    }
+    lastActivityNanos = System.nanoTime();
+  }
+
+  private static NetworkEvent readEvent(JsonInput input) {
+    Map<String, Object> params = input.read(Json.MAP_TYPE);
+    Object request = params.get("request");
+    String url =
+        request instanceof Map<?, ?> requestMap ? String.valueOf(requestMap.get("url")) : null;
+    return new NetworkEvent(String.valueOf(params.get("requestId")), url);
+  }
+}
@@ -1,9 +1,18 @@
 package solutions.bjjeire.selenium.web.services;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import org.springframework.context.ApplicationContext;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
 import org.springframework.stereotype.Service;
+import solutions.bjjeire.selenium.web.components.ComponentFactory;
+import solutions.bjjeire.selenium.web.components.ComponentSnapshot;
+import solutions.bjjeire.selenium.web.components.LazyComponentList;
 import solutions.bjjeire.selenium.web.components.WebComponent;
 import solutions.bjjeire.selenium.web.findstrategies.CssFindStrategy;
 import solutions.bjjeire.selenium.web.findstrategies.DataTestIdFindStrategy;
@@ -12,15 +21,20 @@ import solutions.bjjeire.selenium.web.findstrategies.InnerTextContainingFindStra
 import solutions.bjjeire.selenium.web.findstrategies.TagFindStrategy;
 import solutions.bjjeire.selenium.web.findstrategies.XPathFindStrategy;
 
+@Slf4j
 @Service
 public class ComponentCreateService extends WebService {
 
-  private final ApplicationContext applicationContext;
+  private final ComponentFactory componentFactory;
+  private final JavaScriptService javaScriptService;
 
   public ComponentCreateService(
-      DriverService driverService, ApplicationContext applicationContext) {
+      DriverService driverService,
+      ComponentFactory componentFactory,
+      JavaScriptService javaScriptService) {
     super(driverService);
-    this.applicationContext = applicationContext;
+    this.componentFactory = componentFactory;
+    this.javaScriptService = javaScriptService;
   }
 
   public <TComponent extends WebComponent> TComponent byCss(
@@ -48,48 +62,94 @@ public class ComponentCreateService extends WebService {
     return by(componentClass, new InnerTextContainingFindStrategy(innerText));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> allByCss(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> allByCss(
       Class<TComponent> componentClass, String css) {
     return allBy(componentClass, new CssFindStrategy(css));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> allByXPath(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> allByXPath(
       Class<TComponent> componentClass, String xpath) {
     return allBy(componentClass, new XPathFindStrategy(xpath));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> allByTag(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> allByTag(
       Class<TComponent> componentClass, String tag) {
     return allBy(componentClass, new TagFindStrategy(tag));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> allByDataTestId(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> allByDataTestId(
       Class<TComponent> componentClass, String dataTestId) {
     return allBy(componentClass, new DataTestIdFindStrategy(dataTestId));
   }
 
-  public <TComponent extends WebComponent> List<TComponent> allByInnerTextContaining(
+  public <TComponent extends WebComponent> LazyComponentList<TComponent> allByInnerTextContaining(
       Class<TComponent> componentClass, String innerText) {
     return allBy(componentClass, new InnerTextContainingFindStrategy(innerText));
   }
 
+  public List<ComponentSnapshot> snapshotAllByCss(String css, String... attributes) {
+    return snapshotAllBy(new CssFindStrategy(css), attributes);
+  }
+
+  public List<ComponentSnapshot> snapshotAllByDataTestId(String dataTestId, String... attributes) {
+    return snapshotAllBy(new DataTestIdFindStrategy(dataTestId), attributes);
+  }
+
+  public List<ComponentSnapshot> snapshotAll(
+      List<? extends WebComponent> components, String... attributes) {
+    Map<SnapshotGroup, List<WebElement>> elementsByGroup = new LinkedHashMap<>();
+    List<WebElement> elements = new ArrayList<>(components.size());
+    for (WebComponent component : components) {
+      SearchContext context =
+          component.getParentWrappedElement() != null
+              ? component.getParentWrappedElement()
+              : getWrappedDriver();
+      List<WebElement> groupElements =
+          elementsByGroup.computeIfAbsent(
+              new SnapshotGroup(context, component.getFindStrategy().convert()),
+              group -> group.context().findElements(group.locator()));
+      elements.add(groupElements.get(component.getElementIndex()));
+    }
+
+    List<ComponentSnapshot> snapshots = javaScriptService.snapshot(elements, List.of(attributes));
+    log.debug(
+        "Captured component snapshots",
+        StructuredArguments.keyValue("count", snapshots.size()),
+        StructuredArguments.keyValue("lookupCount", elementsByGroup.size()));
+    return snapshots;
+  }
+
+  private <TFindStrategy extends FindStrategy> List<ComponentSnapshot> snapshotAllBy(
+      TFindStrategy findStrategy, String... attributes) {
+    List<ComponentSnapshot> snapshots =
+        javaScriptService.snapshot(
+            getWrappedDriver().findElements(findStrategy.convert()), List.of(attributes));
+    log.debug(
+        "Captured component snapshots",
+        StructuredArguments.keyValue("locator", findStrategy.toString()),
+        StructuredArguments.keyValue("count", snapshots.size()));
+    return snapshots;
+  }
+
   private <TComponent extends WebComponent, TFindStrategy extends FindStrategy> TComponent by(
       Class<TComponent> componentClass, TFindStrategy findStrategy) {
-    var component = applicationContext.getBean(componentClass);
+    var component = componentFactory.create(componentClass);
     component.setFindStrategy(findStrategy);
     return component;
   }
 
   private <TComponent extends WebComponent, TFindStrategy extends FindStrategy>
-      List<TComponent> allBy(Class<TComponent> componentClass, TFindStrategy findStrategy) {
-    var nativeElements = getWrappedDriver().findElements(findStrategy.convert());
-    List<TComponent> componentList = new ArrayList<>();
-    for (int i = 0; i < nativeElements.size(); i++) {
-      var component = applicationContext.getBean(componentClass);
-      component.setFindStrategy(findStrategy);
-      component.setElementIndex(i);
-      componentList.add(component);
-    }
-    return componentList;
+      LazyComponentList<TComponent> allBy(
+          Class<TComponent> componentClass, TFindStrategy findStrategy) {
+    return new LazyComponentList<>(
+        () -> getWrappedDriver().findElements(findStrategy.convert()),
+        index -> {
+          var component = componentFactory.create(componentClass);
+          component.setFindStrategy(findStrategy);
+          component.setElementIndex(index);
+          return component;
+        });
   }
+
+  private record SnapshotGroup(SearchContext context, By locator) {}
 }
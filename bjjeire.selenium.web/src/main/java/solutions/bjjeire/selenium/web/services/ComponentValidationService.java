@@ -1,16 +1,23 @@
 package solutions.bjjeire.selenium.web.services;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
+import solutions.bjjeire.selenium.web.components.ComponentSnapshot;
 import solutions.bjjeire.selenium.web.components.WebComponent;
 import solutions.bjjeire.selenium.web.configuration.WebSettings;
 
@@ -36,6 +43,65 @@ public class ComponentValidationService {
         StructuredArguments.keyValue("componentName", component.getComponentName()));
   }
 
+  public void anySnapshotMatches(
+      String description,
+      Supplier<List<ComponentSnapshot>> snapshotsSupplier,
+      Predicate<ComponentSnapshot> match,
+      String expectedValue) {
+    AtomicReference<List<ComponentSnapshot>> lastSnapshots = new AtomicReference<>(List.of());
+    try {
+      newValidationWait()
+          .ignoring(StaleElementReferenceException.class)
+          .until(
+              driver -> {
+                List<ComponentSnapshot> snapshots = snapshotsSupplier.get();
+                lastSnapshots.set(snapshots);
+                return snapshots.stream().anyMatch(match);
+              });
+
+      log.info(
+          "Validation successful",
+          StructuredArguments.keyValue("description", description),
+          StructuredArguments.keyValue("expectedValue", expectedValue));
+
+    } catch (TimeoutException ex) {
+      String actualValues =
+          lastSnapshots.get().stream()
+              .map(ComponentSnapshot::text)
+              .collect(Collectors.joining("\", \"", "[\"", "\"]"));
+      String currentUrl = driverService.getWrappedDriver().getCurrentUrl();
+
+      log.error(
+          "Validation failed",
+          StructuredArguments.keyValue("description", description),
+          StructuredArguments.keyValue("expectedValue", expectedValue),
+          StructuredArguments.keyValue("actualValue", actualValues),
+          StructuredArguments.keyValue("currentUrl", currentUrl),
+          ex);
+
+      String errorMessage =
+          """
+                  Validation failed: %s
+                  Expected to contain: "%s"
+                  But actual was: %s
+                  On URL: %s
+                  """
+              .formatted(description, expectedValue, actualValues, currentUrl);
+
+      throw new AssertionError(errorMessage, ex);
+    }
+  }
+
+  private FluentWait<WebDriver> newValidationWait() {
+    var timeoutSettings = webSettings.getTimeoutSettings();
+    return new FluentWait<>(
+            driverService.getWrappedDriver(),
+            Clock.systemDefaultZone(),
+            timeoutSettings.newPollingSleeper())
+        .withTimeout(Duration.ofSeconds(timeoutSettings.getValidationsTimeout()))
+        .pollingEvery(timeoutSettings.getMaxPollingInterval());
+  }
+
   public <T> AttributeValidation<T> attribute(Supplier<T> attributeSupplier, String attributeName) {
     return new AttributeValidation<>(attributeSupplier, attributeName);
   }
@@ -111,14 +177,7 @@ public class ComponentValidationService {
         String expectedValue,
         String verb,
         Supplier<String> actualValueSupplier) {
-      var timeoutSettings = webSettings.getTimeoutSettings();
-      var validationTimeout = timeoutSettings.getValidationsTimeout();
-      var sleepInterval = timeoutSettings.getSleepInterval();
-
-      FluentWait<WebDriver> wait =
-          new FluentWait<>(driverService.getWrappedDriver())
-              .withTimeout(Duration.ofSeconds(validationTimeout))
-              .pollingEvery(Duration.ofSeconds(sleepInterval > 0 ? sleepInterval : 1));
+      FluentWait<WebDriver> wait = newValidationWait();
 
       try {
         wait.until(
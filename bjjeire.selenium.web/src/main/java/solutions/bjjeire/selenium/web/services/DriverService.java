@@ -1,5 +1,13 @@
 package solutions.bjjeire.selenium.web.services;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.constraints.NotNull;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -10,7 +18,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
 import org.openqa.selenium.Dimension;
@@ -18,6 +33,9 @@ import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.devtools.Command;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -30,9 +48,13 @@ import org.openqa.selenium.safari.SafariOptions;
 import org.springframework.stereotype.Service;
 import solutions.bjjeire.core.plugins.Browser;
 import solutions.bjjeire.core.plugins.BrowserConfiguration;
+import solutions.bjjeire.core.plugins.Lifecycle;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 import solutions.bjjeire.core.utilities.SecretsResolver;
 import solutions.bjjeire.core.utilities.TimestampBuilder;
 import solutions.bjjeire.selenium.web.configuration.GridSettings;
+import solutions.bjjeire.selenium.web.configuration.ResourceBlockingSettings;
 import solutions.bjjeire.selenium.web.configuration.WebSettings;
 
 @Slf4j
@@ -40,38 +62,65 @@ import solutions.bjjeire.selenium.web.configuration.WebSettings;
 public class DriverService {
 
   private final ThreadLocal<WebDriver> webDriverThreadLocal = new ThreadLocal<>();
+  private final ThreadLocal<SessionKey> leasedSessionThreadLocal = new ThreadLocal<>();
   private final WebSettings webSettings;
+  private final WebDriverSessionPool sessionPool;
+  private final ElementCache elementCache;
   private static final List<WebDriver> ALL_DRIVERS =
       Collections.synchronizedList(new ArrayList<>());
+  private static final Duration SHUTDOWN_QUIT_TIMEOUT = Duration.ofSeconds(30);
+  private static final int QUIT_CONCURRENCY =
+      Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+  private static final Semaphore QUIT_PERMITS = new Semaphore(QUIT_CONCURRENCY);
+  private static final ExecutorService QUIT_EXECUTOR = createQuitExecutor();
+  private static final String STARTUP_TIMER = "bjjeire.browser.startup";
+  private static final AttributeKey<String> BROWSER = AttributeKey.stringKey("browser.name");
+  private static final AttributeKey<Boolean> POOLED = AttributeKey.booleanKey("browser.pooled");
+  private static final List<String> CHROMIUM_OPTIONS_NAMES =
+      List.of(ChromeOptions.CAPABILITY, EdgeOptions.CAPABILITY);
 
   public DriverService(WebSettings webSettings) {
     this.webSettings = webSettings;
+    this.sessionPool =
+        webSettings.getSessionPool().isEnabled()
+            ? new WebDriverSessionPool(
+                webSettings.getSessionPool(), this::launchDriver, this::quitDriver)
+            : null;
+    this.elementCache = new ElementCache(webSettings.isElementCacheEnabled());
+  }
+
+  @PostConstruct
+  void prewarmSessionPool() {
+    if (sessionPool != null && webSettings.getSessionPool().getPrewarmCount() > 0) {
+      sessionPool.prewarm(SessionKey.of(defaultConfiguration()));
+    }
+  }
+
+  @PreDestroy
+  void shutdownSessionPool() {
+    if (sessionPool != null) {
+      sessionPool.shutdown();
+    }
   }
 
   static {
+    Metrics.gauge("bjjeire.browser.sessions", ALL_DRIVERS, List::size);
     log.info("Registering JVM shutdown hook for global browser cleanup.");
     Runtime.getRuntime()
         .addShutdownHook(
             new Thread(
                 () -> {
                   log.info("JVM shutdown initiated. Closing all managed WebDriver instances...");
-                  new ArrayList<>(ALL_DRIVERS)
-                      .forEach(
-                          driver -> {
-                            try {
-                              if (driver != null) {
-                                log.debug(
-                                    "Shutting down driver instance",
-                                    StructuredArguments.keyValue("driverInstance", driver));
-                                driver.quit();
-                              }
-                            } catch (Exception e) {
-                              log.error(
-                                  "Error while shutting down a WebDriver instance during JVM shutdown.",
-                                  e);
-                            }
-                          });
-                  log.info("Global browser cleanup complete.");
+                  CompletableFuture<?>[] quits =
+                      new ArrayList<>(ALL_DRIVERS)
+                          .stream()
+                              .filter(Objects::nonNull)
+                              .map(driver -> quitAsync(driver, SHUTDOWN_QUIT_TIMEOUT))
+                              .toArray(CompletableFuture[]::new);
+                  CompletableFuture.allOf(quits).join();
+                  log.info(
+                      "Global browser cleanup complete.",
+                      StructuredArguments.keyValue("driverCount", quits.length));
                 }));
   }
 
@@ -83,17 +132,125 @@ public class DriverService {
       close();
     }
 
-    WebDriver driver = createDriver(configuration);
-
-    configureDriver(driver, configuration);
+    WebDriver driver;
+    long startNanos = System.nanoTime();
+    Span span =
+        TestTracing.tracer()
+            .spanBuilder("browser start")
+            .setAttribute(BROWSER, String.valueOf(configuration.getBrowser()))
+            .setAttribute(POOLED, sessionPool != null)
+            .startSpan();
+    Scope scope = span.makeCurrent();
+    try {
+      if (sessionPool != null) {
+        SessionKey sessionKey = SessionKey.of(configuration);
+        driver = sessionPool.lease(sessionKey, configuration.getTestName());
+        leasedSessionThreadLocal.set(sessionKey);
+      } else {
+        driver = launchDriver(configuration);
+      }
+    } catch (Exception e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+      throw e;
+    } finally {
+      scope.close();
+      span.end();
+      TestTimings.recordSince(TestTimings.BROWSER_START, startNanos);
+    }
 
     webDriverThreadLocal.set(driver);
-    ALL_DRIVERS.add(driver);
+    elementCache.reset();
 
     log.info("Driver started successfully for thread: {}", Thread.currentThread().getName());
     return driver;
   }
 
+  private WebDriver launchDriver(BrowserConfiguration configuration) throws Exception {
+    long startTime = System.nanoTime();
+    WebDriver driver = createDriver(configuration);
+    ALL_DRIVERS.add(driver);
+    try {
+      configureDriver(driver, configuration);
+    } catch (RuntimeException e) {
+      quitDriver(driver);
+      throw e;
+    }
+    Timer.builder(STARTUP_TIMER)
+        .description("Time to launch and configure a browser session")
+        .tag("browser", String.valueOf(configuration.getBrowser()))
+        .tag("executionType", String.valueOf(webSettings.getExecutionType()))
+        .register(Metrics.globalRegistry)
+        .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    return driver;
+  }
+
+  private void quitDriver(WebDriver driver) {
+    quitAsync(driver, Duration.ofSeconds(webSettings.getTimeoutSettings().getBrowserQuitTimeout()));
+  }
+
+  private static CompletableFuture<Void> quitAsync(WebDriver driver, Duration timeout) {
+    long startTime = System.nanoTime();
+    return CompletableFuture.runAsync(
+            () -> {
+              QUIT_PERMITS.acquireUninterruptibly();
+              try {
+                driver.quit();
+              } finally {
+                QUIT_PERMITS.release();
+                ALL_DRIVERS.remove(driver);
+              }
+            },
+            QUIT_EXECUTOR)
+        .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        .handle(
+            (ignored, error) -> {
+              if (error != null) {
+                log.error(
+                    "An error occurred during WebDriver quit.",
+                    StructuredArguments.keyValue("driverInstance", driver),
+                    StructuredArguments.keyValue("timeoutMillis", timeout.toMillis()),
+                    error);
+              } else {
+                log.debug(
+                    "WebDriver instance quit",
+                    StructuredArguments.keyValue("driverInstance", driver),
+                    StructuredArguments.keyValue(
+                        "durationMillis",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+              }
+              return null;
+            });
+  }
+
+  private static ExecutorService createQuitExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      AtomicInteger threadCounter = new AtomicInteger();
+      return Executors.newFixedThreadPool(
+          QUIT_CONCURRENCY,
+          runnable -> {
+            Thread thread =
+                new Thread(runnable, "webdriver-quit-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+  }
+
+  private BrowserConfiguration defaultConfiguration() {
+    BrowserConfiguration configuration =
+        new BrowserConfiguration(
+            webSettings.getDefaultBrowserEnum(),
+            Lifecycle.fromText(webSettings.getDefaultLifeCycle()),
+            webSettings.getDefaultBrowserWidth(),
+            webSettings.getDefaultBrowserHeight());
+    configuration.setResourceBlocking(webSettings.getResourceBlocking().isEnabled());
+    return configuration;
+  }
+
   private WebDriver createDriver(BrowserConfiguration configuration) throws Exception {
     String executionType =
         Optional.ofNullable(webSettings.getExecutionType())
@@ -130,23 +287,61 @@ public class DriverService {
     log.info(
         "Window resized",
         StructuredArguments.keyValue("windowSize", driver.manage().window().getSize()));
+
+    if (configuration.isResourceBlocking()) {
+      blockUrlPatterns(driver);
+    }
+  }
+
+  private void blockUrlPatterns(WebDriver driver) {
+    List<String> patterns = webSettings.getResourceBlocking().getEffectiveUrlPatterns();
+    if (patterns.isEmpty()) {
+      return;
+    }
+    if (!(driver instanceof ChromiumDriver chromium)) {
+      log.debug(
+          "URL pattern blocking requires DevTools, relying on browser preferences only",
+          StructuredArguments.keyValue("driver", driver.getClass().getSimpleName()));
+      return;
+    }
+    try {
+      chromium
+          .maybeGetDevTools()
+          .ifPresent(
+              devTools -> {
+                devTools.createSessionIfThereIsNotOne();
+                devTools.send(new Command<Void>("Network.enable", Map.of()));
+                devTools.send(
+                    new Command<Void>("Network.setBlockedURLs", Map.of("urls", patterns)));
+                log.info(
+                    "Blocking resource URL patterns",
+                    StructuredArguments.keyValue("patterns", patterns));
+              });
+    } catch (RuntimeException e) {
+      log.warn(
+          "Failed to block resource URL patterns through DevTools",
+          StructuredArguments.keyValue("reason", e.getClass().getSimpleName()));
+    }
   }
 
   public void close() {
+    elementCache.reset();
     WebDriver driver = webDriverThreadLocal.get();
-    if (driver != null) {
+    SessionKey leasedSession = leasedSessionThreadLocal.get();
+    if (driver != null && leasedSession != null) {
+      log.info(
+          "Returning WebDriver instance to the session pool",
+          StructuredArguments.keyValue("threadName", Thread.currentThread().getName()));
+      webDriverThreadLocal.remove();
+      leasedSessionThreadLocal.remove();
+      sessionPool.release(leasedSession, driver);
+    } else if (driver != null) {
 
       log.info(
           "Closing WebDriver instance",
           StructuredArguments.keyValue("threadName", Thread.currentThread().getName()));
-      try {
-        driver.quit();
-      } catch (Exception e) {
-        log.error("An error occurred during WebDriver quit.", e);
-      } finally {
-        webDriverThreadLocal.remove();
-        ALL_DRIVERS.remove(driver);
-      }
+      webDriverThreadLocal.remove();
+      quitDriver(driver);
     }
   }
 
@@ -154,6 +349,14 @@ public class DriverService {
     return webDriverThreadLocal.get();
   }
 
+  public ElementCache getElementCache() {
+    return elementCache;
+  }
+
+  public Duration getScriptTimeout() {
+    return Duration.ofSeconds(webSettings.getTimeoutSettings().getScriptTimeout());
+  }
+
   private WebDriver initializeLocalDriver(BrowserConfiguration config) throws Exception {
     log.debug(
         "Initializing driver in 'local' mode",
@@ -197,6 +400,10 @@ public class DriverService {
     GridSettings gridSettings = findGridSettings(providerName);
     MutableCapabilities capabilities = getBrowserOptions(config.getBrowser());
 
+    if (config.isResourceBlocking()) {
+      applyResourceBlockingPreferences(capabilities, config);
+    }
+
     HashMap<String, Object> cloudOptions = new HashMap<>();
     cloudOptions.put("sessionName", config.getTestName());
     addCloudOptions(cloudOptions, gridSettings);
@@ -231,6 +438,37 @@ public class DriverService {
 
   private void applyCommonOptions(MutableCapabilities options, BrowserConfiguration config) {
     config.getDriverOptions().forEach(options::setCapability);
+    if (config.isResourceBlocking()) {
+      applyResourceBlockingPreferences(options, config);
+    }
+  }
+
+  private void applyResourceBlockingPreferences(
+      MutableCapabilities options, BrowserConfiguration config) {
+    ResourceBlockingSettings settings = webSettings.getResourceBlocking();
+    if (options instanceof ChromiumOptions<?> chromiumOptions && settings.isBlockImages()) {
+      Map<String, Object> prefs = new HashMap<>();
+      for (String vendorOptionsName : CHROMIUM_OPTIONS_NAMES) {
+        mergePrefs(prefs, config.getDriverOptions().get(vendorOptionsName));
+        mergePrefs(prefs, chromiumOptions.getCapability(vendorOptionsName));
+      }
+      prefs.put("profile.managed_default_content_settings.images", 2);
+      chromiumOptions.setExperimentalOption("prefs", prefs);
+    } else if (options instanceof FirefoxOptions firefoxOptions) {
+      if (settings.isBlockImages()) {
+        firefoxOptions.addPreference("permissions.default.image", 2);
+      }
+      if (settings.isBlockFonts()) {
+        firefoxOptions.addPreference("browser.display.use_document_fonts", 0);
+      }
+    }
+  }
+
+  private static void mergePrefs(Map<String, Object> prefs, Object vendorOptions) {
+    if (vendorOptions instanceof Map<?, ?> options
+        && options.get("prefs") instanceof Map<?, ?> existingPrefs) {
+      existingPrefs.forEach((name, value) -> prefs.put(String.valueOf(name), value));
+    }
   }
 
   private void addGridOptions(MutableCapabilities capabilities, GridSettings gridSettings) {
@@ -0,0 +1,54 @@
+package solutions.bjjeire.selenium.web.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.openqa.selenium.WebElement;
+
+@Slf4j
+public class ElementCache {
+
+  private static final int MAX_ENTRIES = 512;
+
+  private final boolean enabled;
+  private final ThreadLocal<Map<String, WebElement>> elements =
+      ThreadLocal.withInitial(HashMap::new);
+
+  ElementCache(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public WebElement get(String key) {
+    if (!enabled || key == null) {
+      return null;
+    }
+    return elements.get().get(key);
+  }
+
+  public void put(String key, WebElement element) {
+    if (!enabled || key == null || element == null) {
+      return;
+    }
+    Map<String, WebElement> current = elements.get();
+    if (current.size() >= MAX_ENTRIES) {
+      current.clear();
+    }
+    current.put(key, element);
+  }
+
+  public void invalidate(String reason) {
+    Map<String, WebElement> current = elements.get();
+    if (!current.isEmpty()) {
+      log.debug(
+          "Element cache invalidated",
+          StructuredArguments.keyValue("reason", reason),
+          StructuredArguments.keyValue("evicted", current.size()));
+      current.clear();
+    }
+  }
+
+  void reset() {
+    elements.remove();
+  }
+}
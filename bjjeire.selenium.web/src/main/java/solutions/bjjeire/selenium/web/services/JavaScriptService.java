@@ -1,12 +1,48 @@
 package solutions.bjjeire.selenium.web.services;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.springframework.stereotype.Service;
+import solutions.bjjeire.selenium.web.components.ComponentSnapshot;
 
 @Service
 public class JavaScriptService extends WebService {
 
+  private static final String SNAPSHOT_SCRIPT =
+      """
+      var names = arguments[1];
+      return arguments[0].map(function (el) {
+        var style = window.getComputedStyle(el);
+        var rect = el.getBoundingClientRect();
+        var visible = style.display !== 'none' && style.visibility !== 'hidden'
+            && style.opacity !== '0' && el.getClientRects().length > 0;
+        var attributes = {};
+        names.forEach(function (name) {
+          var value = name in el && typeof el[name] !== 'object' && typeof el[name] !== 'function'
+              ? el[name] : el.getAttribute(name);
+          if (typeof value === 'boolean') {
+            value = value ? 'true' : null;
+          }
+          attributes[name] = value === null || value === undefined ? null : String(value);
+        });
+        return {
+          text: visible ? (el.innerText || '').trim() : '',
+          visible: visible,
+          attributes: attributes,
+          x: Math.round(rect.left + window.scrollX),
+          y: Math.round(rect.top + window.scrollY),
+          width: Math.round(rect.width),
+          height: Math.round(rect.height)
+        };
+      });
+      """;
+
   public JavaScriptService(DriverService driverService) {
     super(driverService);
   }
@@ -20,4 +56,30 @@ public class JavaScriptService extends WebService {
     WebDriver driver = getWrappedDriver();
     return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
   }
+
+  @SuppressWarnings("unchecked")
+  public List<ComponentSnapshot> snapshot(List<WebElement> elements, List<String> attributes) {
+    if (elements.isEmpty()) {
+      return List.of();
+    }
+
+    List<ComponentSnapshot> snapshots = new ArrayList<>(elements.size());
+    for (Object result : (List<Object>) execute(SNAPSHOT_SCRIPT, elements, attributes)) {
+      Map<String, Object> values = (Map<String, Object>) result;
+      Map<String, String> attributeValues = new HashMap<>();
+      ((Map<String, Object>) values.get("attributes"))
+          .forEach((name, value) -> attributeValues.put(name, (String) value));
+      snapshots.add(
+          new ComponentSnapshot(
+              (String) values.get("text"),
+              Boolean.TRUE.equals(values.get("visible")),
+              attributeValues,
+              new Rectangle(
+                  ((Number) values.get("x")).intValue(),
+                  ((Number) values.get("y")).intValue(),
+                  ((Number) values.get("height")).intValue(),
+                  ((Number) values.get("width")).intValue())));
+    }
+    return snapshots;
+  }
 }
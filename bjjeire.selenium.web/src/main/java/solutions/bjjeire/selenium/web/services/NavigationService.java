@@ -2,6 +2,7 @@ package solutions.bjjeire.selenium.web.services;
 
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.time.Clock;
 import java.time.Duration;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -18,16 +19,23 @@ import solutions.bjjeire.selenium.web.pages.WebPage;
 public class NavigationService extends WebService {
 
   private final WebSettings webSettings;
+  private final NetworkTrackingService networkTrackingService;
 
-  public NavigationService(DriverService driverService, WebSettings webSettings) {
+  public NavigationService(
+      DriverService driverService,
+      WebSettings webSettings,
+      NetworkTrackingService networkTrackingService) {
     super(driverService);
     this.webSettings = webSettings;
+    this.networkTrackingService = networkTrackingService;
   }
 
   public void to(String url) {
 
     log.info("Navigating to URL", StructuredArguments.keyValue("url", url));
+    networkTrackingService.startTracking();
     getWrappedDriver().navigate().to(url);
+    driverService.getElementCache().invalidate("navigation");
   }
 
   @SneakyThrows
@@ -59,7 +67,6 @@ public class NavigationService extends WebService {
 
   public void waitForPartialUrl(String partialUrl) {
     long waitForPartialTimeout = webSettings.getTimeoutSettings().getWaitForPartialUrl();
-    long sleepInterval = webSettings.getTimeoutSettings().getSleepInterval();
 
     log.debug(
         "Waiting for partial URL",
@@ -71,7 +78,9 @@ public class NavigationService extends WebService {
           new WebDriverWait(
               getWrappedDriver(),
               Duration.ofSeconds(waitForPartialTimeout),
-              Duration.ofSeconds(sleepInterval));
+              webSettings.getTimeoutSettings().getMaxPollingInterval(),
+              Clock.systemDefaultZone(),
+              webSettings.getTimeoutSettings().newPollingSleeper());
       webDriverWait.until(ExpectedConditions.urlContains(partialUrl));
     } catch (TimeoutException ex) {
       String currentUrl = getWrappedDriver().getCurrentUrl();
@@ -0,0 +1,175 @@
+package solutions.bjjeire.selenium.web.services;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.springframework.stereotype.Service;
+import solutions.bjjeire.core.tracing.TestTracing;
+import solutions.bjjeire.selenium.web.configuration.WebSettings;
+
+@Slf4j
+@Service
+public class NetworkTrackingService extends WebService {
+
+  private static final String COMPLETED_RESOURCE_SCRIPT =
+      """
+      var fragment = arguments[0];
+      return performance.getEntriesByType('resource').some(function (entry) {
+        return entry.name.indexOf(fragment) !== -1 && entry.responseEnd > 0;
+      });
+      """;
+  private static final String RESOURCE_ACTIVITY_SCRIPT =
+      "return [document.readyState, performance.getEntriesByType('resource').length];";
+
+  private static final AttributeKey<String> URL_FRAGMENT =
+      AttributeKey.stringKey("wait.url_fragment");
+
+  private final WebSettings webSettings;
+  private final Map<WebDriver, Optional<CdpNetworkTracker>> trackers =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  public NetworkTrackingService(DriverService driverService, WebSettings webSettings) {
+    super(driverService);
+    this.webSettings = webSettings;
+  }
+
+  public void startTracking() {
+    tracker().ifPresent(CdpNetworkTracker::reset);
+  }
+
+  public boolean waitForResponse(String urlFragment) {
+    Optional<CdpNetworkTracker> tracker = tracker();
+    return waitUntil(
+        "response",
+        urlFragment,
+        driver ->
+            tracker
+                .map(cdp -> cdp.hasCompleted(urlFragment))
+                .orElseGet(
+                    () ->
+                        Boolean.TRUE.equals(
+                            ((JavascriptExecutor) driver)
+                                .executeScript(COMPLETED_RESOURCE_SCRIPT, urlFragment))));
+  }
+
+  public void waitForPageData(String urlFragment) {
+    if (!webSettings.isWaitForPageDataOnOpen()) {
+      return;
+    }
+    if (!waitForResponse(urlFragment)) {
+      throw new TimeoutException(
+          "No response matching '%s' completed within %d seconds"
+              .formatted(urlFragment, webSettings.getTimeoutSettings().getWaitForAjaxTimeout()));
+    }
+  }
+
+  public boolean waitForNetworkIdle() {
+    Duration quietPeriod =
+        Duration.ofMillis(webSettings.getTimeoutSettings().getNetworkIdleQuietPeriodMillis());
+    Optional<CdpNetworkTracker> tracker = tracker();
+    if (tracker.isPresent()) {
+      return waitUntil("idle", null, driver -> tracker.get().isIdle(quietPeriod));
+    }
+
+    ResourceActivity activity = new ResourceActivity();
+    return waitUntil(
+        "idle",
+        null,
+        driver ->
+            activity.isQuiet(
+                (List<?>) ((JavascriptExecutor) driver).executeScript(RESOURCE_ACTIVITY_SCRIPT),
+                quietPeriod));
+  }
+
+  private boolean waitUntil(
+      String condition, String urlFragment, Function<WebDriver, Boolean> isSatisfied) {
+    var timeoutSettings = webSettings.getTimeoutSettings();
+    long startTime = System.nanoTime();
+    FluentWait<WebDriver> wait =
+        new FluentWait<>(
+                getWrappedDriver(), Clock.systemDefaultZone(), timeoutSettings.newPollingSleeper())
+            .withTimeout(Duration.ofSeconds(timeoutSettings.getWaitForAjaxTimeout()))
+            .pollingEvery(timeoutSettings.getMaxPollingInterval())
+            .ignoring(WebDriverException.class);
+    Span span =
+        TestTracing.tracer()
+            .spanBuilder("wait network " + condition)
+            .setAttribute(URL_FRAGMENT, String.valueOf(urlFragment))
+            .startSpan();
+    Scope scope = span.makeCurrent();
+    try {
+      wait.until(isSatisfied);
+      log.debug(
+          "Network condition satisfied",
+          StructuredArguments.keyValue("condition", condition),
+          StructuredArguments.keyValue("urlFragment", urlFragment),
+          StructuredArguments.keyValue(
+              "durationMs", Duration.ofNanos(System.nanoTime() - startTime).toMillis()));
+      return true;
+    } catch (TimeoutException ex) {
+      span.setStatus(StatusCode.ERROR, "timeout");
+      log.warn(
+          "Timed out waiting for network condition",
+          StructuredArguments.keyValue("condition", condition),
+          StructuredArguments.keyValue("urlFragment", urlFragment),
+          StructuredArguments.keyValue("timeoutSeconds", timeoutSettings.getWaitForAjaxTimeout()));
+      return false;
+    } finally {
+      scope.close();
+      span.end();
+    }
+  }
+
+  private Optional<CdpNetworkTracker> tracker() {
+    return trackers.computeIfAbsent(getWrappedDriver(), this::attach);
+  }
+
+  private Optional<CdpNetworkTracker> attach(WebDriver driver) {
+    if (!webSettings.isNetworkTrackingEnabled() || !(driver instanceof ChromiumDriver chromium)) {
+      return Optional.empty();
+    }
+    try {
+      Optional<DevTools> devTools = chromium.maybeGetDevTools();
+      return devTools.map(CdpNetworkTracker::new);
+    } catch (RuntimeException ex) {
+      log.warn(
+          "CDP network tracking unavailable, falling back to resource timing",
+          StructuredArguments.keyValue("reason", ex.getClass().getSimpleName()));
+      return Optional.empty();
+    }
+  }
+
+  private static final class ResourceActivity {
+    private Object lastCount;
+    private long lastChangeNanos = System.nanoTime();
+
+    boolean isQuiet(List<?> activity, Duration quietPeriod) {
+      Object count = activity.get(1);
+      if (!count.equals(lastCount)) {
+        lastCount = count;
+        lastChangeNanos = System.nanoTime();
+        return false;
+      }
+      return "complete".equals(activity.get(0))
+          && System.nanoTime() - lastChangeNanos >= quietPeriod.toNanos();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package solutions.bjjeire.selenium.web.services;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.openqa.selenium.Platform;
+import solutions.bjjeire.core.plugins.Browser;
+import solutions.bjjeire.core.plugins.BrowserConfiguration;
+import solutions.bjjeire.core.plugins.DeviceName;
+import solutions.bjjeire.core.plugins.Lifecycle;
+
+record SessionKey(
+    Browser browser,
+    DeviceName deviceName,
+    int width,
+    int height,
+    int version,
+    Platform platform,
+    boolean resourceBlocking,
+    Map<String, Object> driverOptions) {
+
+  static SessionKey of(BrowserConfiguration configuration) {
+    return new SessionKey(
+        configuration.getBrowser(),
+        configuration.getDeviceName(),
+        configuration.getWidth(),
+        configuration.getHeight(),
+        configuration.getVersion(),
+        configuration.getPlatform(),
+        configuration.isResourceBlocking(),
+        Collections.unmodifiableMap(new HashMap<>(configuration.getDriverOptions())));
+  }
+
+  BrowserConfiguration toConfiguration(String testName) {
+    BrowserConfiguration configuration =
+        new BrowserConfiguration(browser, deviceName, Lifecycle.REUSE_IF_STARTED);
+    configuration.setTestName(testName);
+    configuration.setWidth(width);
+    configuration.setHeight(height);
+    configuration.setVersion(version);
+    configuration.setPlatform(platform);
+    configuration.setResourceBlocking(resourceBlocking);
+    configuration.getDriverOptions().putAll(driverOptions);
+    return configuration;
+  }
+}
@@ -0,0 +1,299 @@
+package solutions.bjjeire.selenium.web.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import solutions.bjjeire.core.plugins.Browser;
+import solutions.bjjeire.core.plugins.BrowserConfiguration;
+import solutions.bjjeire.selenium.web.configuration.SessionPoolSettings;
+
+@Slf4j
+class WebDriverSessionPool {
+
+  private static final String ALL_STORAGE_TYPES = "all";
+
+  @FunctionalInterface
+  interface SessionFactory {
+    WebDriver create(BrowserConfiguration configuration) throws Exception;
+  }
+
+  private final Map<SessionKey, BlockingDeque<WebDriver>> idleSessions = new ConcurrentHashMap<>();
+  private final Map<SessionKey, AtomicInteger> pendingLaunches = new ConcurrentHashMap<>();
+  private final SessionPoolSettings settings;
+  private final SessionFactory sessionFactory;
+  private final Consumer<WebDriver> discardAction;
+  private final ExecutorService launcher;
+
+  WebDriverSessionPool(
+      SessionPoolSettings settings,
+      SessionFactory sessionFactory,
+      Consumer<WebDriver> discardAction) {
+    this.settings = settings;
+    this.sessionFactory = sessionFactory;
+    this.discardAction = discardAction;
+    AtomicInteger threadCounter = new AtomicInteger();
+    this.launcher =
+        Executors.newFixedThreadPool(
+            settings.getLaunchThreads(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "webdriver-pool-" + threadCounter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  void prewarm(SessionKey key) {
+    log.info(
+        "Pre-warming WebDriver sessions",
+        StructuredArguments.kv("eventType", "webdriver_pool_prewarm"),
+        StructuredArguments.kv("browser", key.browser()),
+        StructuredArguments.kv("count", settings.getPrewarmCount()));
+    replenish(key);
+  }
+
+  WebDriver lease(SessionKey key, String testName) throws Exception {
+    BlockingDeque<WebDriver> idle = idleFor(key);
+    long startTime = System.nanoTime();
+
+    WebDriver driver = pollHealthy(idle);
+    if (driver == null && pendingFor(key).get() > 0) {
+      long deadline = startTime + TimeUnit.SECONDS.toNanos(settings.getLeaseTimeoutSeconds());
+      while (driver == null && pendingFor(key).get() > 0) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        WebDriver candidate =
+            idle.pollFirst(Math.min(remaining, 500_000_000L), TimeUnit.NANOSECONDS);
+        if (candidate != null) {
+          driver = isHealthy(candidate) ? candidate : discard(candidate);
+        }
+      }
+    }
+
+    boolean coldStart = driver == null;
+    if (coldStart) {
+      driver = sessionFactory.create(key.toConfiguration(testName));
+    }
+    replenish(key);
+    Metrics.counter(
+            "bjjeire.browser.pool.leases",
+            "browser",
+            String.valueOf(key.browser()),
+            "coldStart",
+            String.valueOf(coldStart))
+        .increment();
+
+    log.info(
+        "WebDriver session leased",
+        StructuredArguments.kv("eventType", "webdriver_pool_lease"),
+        StructuredArguments.kv("browser", key.browser()),
+        StructuredArguments.kv("test_name", testName),
+        StructuredArguments.kv("cold_start", coldStart),
+        StructuredArguments.kv("idle", idle.size()),
+        StructuredArguments.kv(
+            "wait_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    return driver;
+  }
+
+  void release(SessionKey key, WebDriver driver) {
+    BlockingDeque<WebDriver> idle = idleFor(key);
+    if (idle.size() < settings.getMaxIdlePerConfiguration() && reset(driver)) {
+      idle.offerFirst(driver);
+      log.debug(
+          "WebDriver session returned to pool",
+          StructuredArguments.kv("eventType", "webdriver_pool_release"),
+          StructuredArguments.kv("browser", key.browser()),
+          StructuredArguments.kv("idle", idle.size()));
+    } else {
+      discard(driver);
+    }
+  }
+
+  void shutdown() {
+    launcher.shutdownNow();
+    idleSessions.values().forEach(idle -> idle.forEach(this::discard));
+    idleSessions.clear();
+  }
+
+  private void replenish(SessionKey key) {
+    BlockingDeque<WebDriver> idle = idleFor(key);
+    AtomicInteger pending = pendingFor(key);
+    while (true) {
+      int reserved = pending.get();
+      if (idle.size() + reserved >= settings.getPrewarmCount()) {
+        return;
+      }
+      if (pending.compareAndSet(reserved, reserved + 1)) {
+        launcher.execute(() -> launch(key, idle, pending));
+      }
+    }
+  }
+
+  private void launch(SessionKey key, BlockingDeque<WebDriver> idle, AtomicInteger pending) {
+    try {
+      // Prewarmed sessions start before any test claims them, so they carry no cloud session name;
+      // only cold starts in lease are labelled, and reused sessions keep their original label.
+      WebDriver driver = sessionFactory.create(key.toConfiguration(null));
+      idle.offerLast(driver);
+    } catch (Exception e) {
+      log.warn(
+          "Failed to pre-launch WebDriver session",
+          StructuredArguments.kv("eventType", "webdriver_pool_launch_failed"),
+          StructuredArguments.kv("browser", key.browser()),
+          e);
+    } finally {
+      pending.decrementAndGet();
+    }
+  }
+
+  private WebDriver pollHealthy(BlockingDeque<WebDriver> idle) {
+    WebDriver driver;
+    while ((driver = idle.pollFirst()) != null) {
+      if (isHealthy(driver)) {
+        return driver;
+      }
+      discard(driver);
+    }
+    return null;
+  }
+
+  private boolean isHealthy(WebDriver driver) {
+    try {
+      driver.getWindowHandle();
+      return true;
+    } catch (Exception e) {
+      log.warn(
+          "Discarding unhealthy WebDriver session",
+          StructuredArguments.kv("eventType", "webdriver_pool_unhealthy"),
+          StructuredArguments.kv("reason", e.getClass().getSimpleName()));
+      return false;
+    }
+  }
+
+  private boolean reset(WebDriver driver) {
+    if (!(driver instanceof ChromiumDriver chromium)) {
+      log.debug(
+          "Session state can only be cleared across origins through DevTools, discarding it",
+          StructuredArguments.kv("eventType", "webdriver_pool_reset_unsupported"),
+          StructuredArguments.kv("driver", driver.getClass().getSimpleName()));
+      return false;
+    }
+    try {
+      String primaryWindow = driver.getWindowHandles().iterator().next();
+      for (String handle : driver.getWindowHandles()) {
+        if (!handle.equals(primaryWindow)) {
+          driver.switchTo().window(handle).close();
+        }
+      }
+      driver.switchTo().window(primaryWindow);
+      driver.get("about:blank");
+      chromium.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+      for (String origin : visitedOrigins(chromium)) {
+        chromium.executeCdpCommand(
+            "Storage.clearDataForOrigin",
+            Map.of("origin", origin, "storageTypes", ALL_STORAGE_TYPES));
+      }
+      chromium.executeCdpCommand("Page.resetNavigationHistory", Map.of());
+      return true;
+    } catch (Exception e) {
+      log.warn(
+          "Failed to reset WebDriver session, discarding it",
+          StructuredArguments.kv("eventType", "webdriver_pool_reset_failed"),
+          StructuredArguments.kv("reason", e.getClass().getSimpleName()));
+      return false;
+    }
+  }
+
+  private Set<String> visitedOrigins(ChromiumDriver chromium) {
+    Set<String> origins = new LinkedHashSet<>();
+    Object entries =
+        chromium.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+    if (entries instanceof List<?> history) {
+      for (Object entry : history) {
+        if (entry instanceof Map<?, ?> navigation) {
+          originOf(String.valueOf(navigation.get("url"))).ifPresent(origins::add);
+        }
+      }
+    }
+    return origins;
+  }
+
+  private static Optional<String> originOf(String url) {
+    try {
+      URI uri = URI.create(url);
+      if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+        return Optional.empty();
+      }
+      String port = uri.getPort() == -1 ? "" : ":" + uri.getPort();
+      return Optional.of(uri.getScheme() + "://" + uri.getHost() + port);
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private WebDriver discard(WebDriver driver) {
+    try {
+      discardAction.accept(driver);
+    } catch (Exception e) {
+      log.debug("Error while discarding pooled WebDriver session.", e);
+    }
+    return null;
+  }
+
+  private BlockingDeque<WebDriver> idleFor(SessionKey key) {
+    return idleSessions.computeIfAbsent(
+        key,
+        newKey -> {
+          registerGauges(newKey.browser());
+          return new LinkedBlockingDeque<>();
+        });
+  }
+
+  private AtomicInteger pendingFor(SessionKey key) {
+    return pendingLaunches.computeIfAbsent(key, newKey -> new AtomicInteger());
+  }
+
+  private void registerGauges(Browser browser) {
+    Gauge.builder(
+            "bjjeire.browser.pool.idle",
+            this,
+            pool -> pool.sumFor(browser, pool.idleSessions, BlockingDeque::size))
+        .description("Idle pooled browser sessions")
+        .tag("browser", String.valueOf(browser))
+        .register(Metrics.globalRegistry);
+    Gauge.builder(
+            "bjjeire.browser.pool.pending",
+            this,
+            pool -> pool.sumFor(browser, pool.pendingLaunches, AtomicInteger::get))
+        .description("Browser sessions being launched in the background")
+        .tag("browser", String.valueOf(browser))
+        .register(Metrics.globalRegistry);
+  }
+
+  private <T> int sumFor(Browser browser, Map<SessionKey, T> states, ToIntFunction<T> counter) {
+    return states.entrySet().stream()
+        .filter(entry -> entry.getKey().browser() == browser)
+        .mapToInt(entry -> counter.applyAsInt(entry.getValue()))
+        .sum();
+  }
+}
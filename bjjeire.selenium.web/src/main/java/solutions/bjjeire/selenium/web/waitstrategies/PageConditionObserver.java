@@ -0,0 +1,151 @@
+package solutions.bjjeire.selenium.web.waitstrategies;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+@Slf4j
+final class PageConditionObserver {
+
+  enum Condition {
+    EXIST("exist"),
+    VISIBLE("visible"),
+    CLICKABLE("clickable");
+
+    private final String scriptName;
+
+    Condition(String scriptName) {
+      this.scriptName = scriptName;
+    }
+  }
+
+  private static final long MIN_CHUNK_MILLIS = 50;
+
+  private static final String OBSERVER_SCRIPT =
+      """
+      var root = arguments[0] || document;
+      var using = arguments[1];
+      var value = arguments[2];
+      var condition = arguments[3];
+      var timeoutMillis = arguments[4];
+      var done = arguments[arguments.length - 1];
+
+      function find() {
+        try {
+          if (using === 'css selector') {
+            return root.querySelector(value);
+          }
+          return document.evaluate(
+              value, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+        } catch (e) {
+          return null;
+        }
+      }
+
+      function met() {
+        var element = find();
+        if (!element) {
+          return false;
+        }
+        if (condition === 'exist') {
+          return true;
+        }
+        var style = window.getComputedStyle(element);
+        var visible = style.display !== 'none' && style.visibility !== 'hidden'
+            && element.getClientRects().length > 0;
+        return visible && (condition !== 'clickable' || !element.disabled);
+      }
+
+      if (met()) {
+        done(true);
+        return;
+      }
+
+      var finished = false;
+      var observer = new MutationObserver(function () {
+        if (met()) {
+          finish(true);
+        }
+      });
+      var timer = setTimeout(function () {
+        finish(met());
+      }, timeoutMillis);
+
+      function finish(result) {
+        if (finished) {
+          return;
+        }
+        finished = true;
+        observer.disconnect();
+        clearTimeout(timer);
+        done(result);
+      }
+
+      observer.observe(document, {
+        childList: true, subtree: true, attributes: true, characterData: true
+      });
+      """;
+
+  private PageConditionObserver() {}
+
+  static boolean await(
+      WebDriver driver,
+      SearchContext searchContext,
+      By by,
+      Condition condition,
+      Duration scriptTimeout,
+      long deadlineNanos) {
+    Map<String, Object> locator = toScriptLocator(by);
+    if (locator == null || !(driver instanceof JavascriptExecutor executor)) {
+      return false;
+    }
+
+    Object root = searchContext instanceof WebElement ? searchContext : null;
+    long chunkMillis = Math.max(MIN_CHUNK_MILLIS, scriptTimeout.toMillis() * 3 / 4);
+    try {
+      while (true) {
+        long remainingMillis = (deadlineNanos - System.nanoTime()) / 1_000_000;
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        Object result =
+            executor.executeAsyncScript(
+                OBSERVER_SCRIPT,
+                root,
+                locator.get("using"),
+                locator.get("value"),
+                condition.scriptName,
+                Math.min(chunkMillis, remainingMillis));
+        if (Boolean.TRUE.equals(result)) {
+          return true;
+        }
+      }
+    } catch (WebDriverException e) {
+      log.debug(
+          "Event-driven wait unavailable, falling back to polling",
+          StructuredArguments.keyValue("locator", by.toString()),
+          StructuredArguments.keyValue("reason", e.getClass().getSimpleName()));
+      return false;
+    }
+  }
+
+  private static Map<String, Object> toScriptLocator(By by) {
+    if (!(by instanceof By.Remotable remotable)) {
+      return null;
+    }
+    By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+    String value = String.valueOf(parameters.value());
+    return switch (parameters.using()) {
+      case "css selector", "xpath" -> Map.of("using", parameters.using(), "value", value);
+      case "tag name" -> Map.of("using", "css selector", "value", value);
+      default -> null;
+    };
+  }
+}
@@ -9,6 +9,8 @@ public class ToBeClickableWaitStrategy extends WaitStrategy {
   public ToBeClickableWaitStrategy(WebSettings webSettings) {
     this.timeoutInterval = webSettings.getTimeoutSettings().getElementToBeClickableTimeout();
     this.sleepInterval = webSettings.getTimeoutSettings().getSleepInterval();
+    this.eventDriven = webSettings.isEventDrivenWaitsEnabled();
+    applyPolling(webSettings.getTimeoutSettings());
   }
 
   public ToBeClickableWaitStrategy(long timeoutIntervalSeconds, long sleepIntervalSeconds) {
@@ -17,7 +19,12 @@ public class ToBeClickableWaitStrategy extends WaitStrategy {
 
   @Override
   public void waitUntil(DriverService driverService, SearchContext searchContext, By by) {
-    waitUntil(driverService, (d) -> elementIsClickable(searchContext, by));
+    waitUntil(
+        driverService,
+        searchContext,
+        by,
+        PageConditionObserver.Condition.CLICKABLE,
+        (d) -> elementIsClickable(searchContext, by));
   }
 
   private boolean elementIsClickable(SearchContext searchContext, By by) {
@@ -9,6 +9,8 @@ public class ToBeVisibleWaitStrategy extends WaitStrategy {
   public ToBeVisibleWaitStrategy(WebSettings webSettings) {
     this.timeoutInterval = webSettings.getTimeoutSettings().getElementToBeClickableTimeout();
     this.sleepInterval = webSettings.getTimeoutSettings().getSleepInterval();
+    this.eventDriven = webSettings.isEventDrivenWaitsEnabled();
+    applyPolling(webSettings.getTimeoutSettings());
   }
 
   public ToBeVisibleWaitStrategy(long timeoutIntervalSeconds, long sleepIntervalSeconds) {
@@ -17,7 +19,12 @@ public class ToBeVisibleWaitStrategy extends WaitStrategy {
 
   @Override
   public void waitUntil(DriverService driverService, SearchContext searchContext, By by) {
-    waitUntil(driverService, (d) -> elementIsVisible(searchContext, by));
+    waitUntil(
+        driverService,
+        searchContext,
+        by,
+        PageConditionObserver.Condition.VISIBLE,
+        (d) -> elementIsVisible(searchContext, by));
   }
 
   private boolean elementIsVisible(SearchContext searchContext, By by) {
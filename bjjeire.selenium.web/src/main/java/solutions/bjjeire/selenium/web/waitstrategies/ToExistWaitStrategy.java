@@ -9,6 +9,8 @@ public class ToExistWaitStrategy extends WaitStrategy {
   public ToExistWaitStrategy(WebSettings webSettings) {
     this.timeoutInterval = webSettings.getTimeoutSettings().getElementToBeClickableTimeout();
     this.sleepInterval = webSettings.getTimeoutSettings().getSleepInterval();
+    this.eventDriven = webSettings.isEventDrivenWaitsEnabled();
+    applyPolling(webSettings.getTimeoutSettings());
   }
 
   public ToExistWaitStrategy(long timeoutIntervalSeconds, long sleepIntervalSeconds) {
@@ -17,7 +19,12 @@ public class ToExistWaitStrategy extends WaitStrategy {
 
   @Override
   public void waitUntil(DriverService driverService, SearchContext searchContext, By by) {
-    waitUntil(driverService, (d) -> elementExists(searchContext, by));
+    waitUntil(
+        driverService,
+        searchContext,
+        by,
+        PageConditionObserver.Condition.EXIST,
+        (d) -> elementExists(searchContext, by));
   }
 
   private boolean elementExists(SearchContext searchContext, By by) {
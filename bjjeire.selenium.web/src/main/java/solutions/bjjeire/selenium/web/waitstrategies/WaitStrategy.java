@@ -1,18 +1,33 @@
 package solutions.bjjeire.selenium.web.waitstrategies;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.function.Function;
 import lombok.Getter;
+import lombok.Setter;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import solutions.bjjeire.core.tracing.TestTracing;
+import solutions.bjjeire.core.utilities.BackoffSleeper;
+import solutions.bjjeire.selenium.web.configuration.TimeoutSettings;
 import solutions.bjjeire.selenium.web.services.DriverService;
 
 public abstract class WaitStrategy {
+  private static final AttributeKey<String> LOCATOR = AttributeKey.stringKey("wait.locator");
+  private static final AttributeKey<Boolean> EVENT_DRIVEN =
+      AttributeKey.booleanKey("wait.event_driven");
+
   @Getter protected long timeoutInterval;
   @Getter protected long sleepInterval;
+  @Getter @Setter protected boolean eventDriven;
+  @Setter protected Duration initialPollingInterval = BackoffSleeper.DEFAULT_INITIAL_INTERVAL;
+  @Setter protected Duration maxPollingInterval;
+  @Setter protected double pollingBackoffMultiplier = BackoffSleeper.DEFAULT_MULTIPLIER;
 
   public WaitStrategy() {}
 
@@ -21,19 +36,65 @@ public abstract class WaitStrategy {
     this.sleepInterval = sleepInterval;
   }
 
+  protected void applyPolling(TimeoutSettings timeoutSettings) {
+    this.initialPollingInterval =
+        Duration.ofMillis(timeoutSettings.getInitialPollingIntervalMillis());
+    this.maxPollingInterval = timeoutSettings.getMaxPollingInterval();
+    this.pollingBackoffMultiplier = timeoutSettings.getPollingBackoffMultiplier();
+  }
+
   public abstract void waitUntil(DriverService driverService, SearchContext searchContext, By by);
 
   protected void waitUntil(
       DriverService driverService, Function<WebDriver, Boolean> waitCondition) {
+    waitUntil(driverService, waitCondition, Duration.ofSeconds(timeoutInterval));
+  }
+
+  protected void waitUntil(
+      DriverService driverService,
+      SearchContext searchContext,
+      By by,
+      PageConditionObserver.Condition pageCondition,
+      Function<WebDriver, Boolean> waitCondition) {
+    TestTracing.inSpan(
+        "wait " + getClass().getSimpleName(),
+        Attributes.of(LOCATOR, by.toString(), EVENT_DRIVEN, eventDriven),
+        () -> {
+          Duration timeout = Duration.ofSeconds(timeoutInterval);
+          if (eventDriven) {
+            long startTime = System.nanoTime();
+            PageConditionObserver.await(
+                driverService.getWrappedDriver(),
+                searchContext,
+                by,
+                pageCondition,
+                driverService.getScriptTimeout(),
+                startTime + timeout.toNanos());
+            timeout = timeout.minusNanos(System.nanoTime() - startTime);
+          }
+          waitUntil(driverService, waitCondition, timeout.isNegative() ? Duration.ZERO : timeout);
+        });
+  }
+
+  private void waitUntil(
+      DriverService driverService, Function<WebDriver, Boolean> waitCondition, Duration timeout) {
     WebDriverWait webDriverWait =
         new WebDriverWait(
             driverService.getWrappedDriver(),
-            Duration.ofSeconds(timeoutInterval),
-            Duration.ofSeconds(sleepInterval));
-    webDriverWait.withMessage(Thread.currentThread().getStackTrace()[2].getMethodName());
+            timeout,
+            getMaxPollingInterval(),
+            Clock.systemDefaultZone(),
+            new BackoffSleeper(initialPollingInterval, pollingBackoffMultiplier));
+    webDriverWait.withMessage(getClass().getSimpleName());
     webDriverWait.until(waitCondition);
   }
 
+  public Duration getMaxPollingInterval() {
+    return maxPollingInterval != null
+        ? maxPollingInterval
+        : Duration.ofSeconds(sleepInterval > 0 ? sleepInterval : 1);
+  }
+
   protected WebElement findElement(SearchContext searchContext, By by) {
     return searchContext.findElement(by);
   }
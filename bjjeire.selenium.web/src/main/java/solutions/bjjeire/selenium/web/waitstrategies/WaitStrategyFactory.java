@@ -15,32 +15,49 @@ public class WaitStrategyFactory {
   }
 
   public ToExistWaitStrategy exist() {
-    return new ToExistWaitStrategy(
-        webSettings.getTimeoutSettings().getElementToExistTimeout(),
-        webSettings.getTimeoutSettings().getSleepInterval());
+    return configureDefaults(
+        new ToExistWaitStrategy(
+            webSettings.getTimeoutSettings().getElementToExistTimeout(),
+            webSettings.getTimeoutSettings().getSleepInterval()));
   }
 
   public ToExistWaitStrategy exist(long timeoutInterval, long sleepInterval) {
-    return new ToExistWaitStrategy(timeoutInterval, sleepInterval);
+    return configure(new ToExistWaitStrategy(timeoutInterval, sleepInterval));
   }
 
   public ToBeVisibleWaitStrategy beVisible() {
-    return new ToBeVisibleWaitStrategy(
-        webSettings.getTimeoutSettings().getElementToBeVisibleTimeout(),
-        webSettings.getTimeoutSettings().getSleepInterval());
+    return configureDefaults(
+        new ToBeVisibleWaitStrategy(
+            webSettings.getTimeoutSettings().getElementToBeVisibleTimeout(),
+            webSettings.getTimeoutSettings().getSleepInterval()));
   }
 
   public ToBeVisibleWaitStrategy beVisible(long timeoutInterval, long sleepInterval) {
-    return new ToBeVisibleWaitStrategy(timeoutInterval, sleepInterval);
+    return configure(new ToBeVisibleWaitStrategy(timeoutInterval, sleepInterval));
   }
 
   public ToBeClickableWaitStrategy beClickable() {
-    return new ToBeClickableWaitStrategy(
-        webSettings.getTimeoutSettings().getElementToBeClickableTimeout(),
-        webSettings.getTimeoutSettings().getSleepInterval());
+    return configureDefaults(
+        new ToBeClickableWaitStrategy(
+            webSettings.getTimeoutSettings().getElementToBeClickableTimeout(),
+            webSettings.getTimeoutSettings().getSleepInterval()));
   }
 
   public ToBeClickableWaitStrategy beClickable(long timeoutInterval, long sleepInterval) {
-    return new ToBeClickableWaitStrategy(timeoutInterval, sleepInterval);
+    return configure(new ToBeClickableWaitStrategy(timeoutInterval, sleepInterval));
+  }
+
+  private <TWaitStrategy extends WaitStrategy> TWaitStrategy configureDefaults(
+      TWaitStrategy waitStrategy) {
+    waitStrategy.applyPolling(webSettings.getTimeoutSettings());
+    waitStrategy.setEventDriven(webSettings.isEventDrivenWaitsEnabled());
+    return waitStrategy;
+  }
+
+  private <TWaitStrategy extends WaitStrategy> TWaitStrategy configure(TWaitStrategy waitStrategy) {
+    configureDefaults(waitStrategy);
+    // An explicit sleep interval caps the polling backoff instead of the configured maximum.
+    waitStrategy.setMaxPollingInterval(null);
+    return waitStrategy;
   }
 }
@@ -0,0 +1,84 @@
+package solutions.bjjeire.selenium.web.components;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import solutions.bjjeire.selenium.web.configuration.WebSettings;
+import solutions.bjjeire.selenium.web.services.BrowserService;
+import solutions.bjjeire.selenium.web.services.ComponentWaitService;
+import solutions.bjjeire.selenium.web.services.DriverService;
+import solutions.bjjeire.selenium.web.services.JavaScriptService;
+import solutions.bjjeire.selenium.web.waitstrategies.WaitStrategyFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentFactoryBenchmark {
+
+  private GenericApplicationContext applicationContext;
+  private ComponentFactory componentFactory;
+
+  @Setup(Level.Trial)
+  public void startContext() {
+    WebSettings webSettings = new WebSettings();
+    DriverService driverService = new DriverService(webSettings);
+    JavaScriptService javaScriptService = new JavaScriptService(driverService);
+
+    applicationContext = new GenericApplicationContext();
+    applicationContext.registerBean(WebSettings.class, () -> webSettings);
+    applicationContext.registerBean(DriverService.class, () -> driverService);
+    applicationContext.registerBean(JavaScriptService.class, () -> javaScriptService);
+    applicationContext.registerBean(
+        BrowserService.class,
+        () -> new BrowserService(driverService, javaScriptService, webSettings));
+    applicationContext.registerBean(
+        ComponentWaitService.class, () -> new ComponentWaitService(driverService));
+    applicationContext.registerBean(
+        WaitStrategyFactory.class, () -> new WaitStrategyFactory(webSettings));
+    applicationContext.registerBean(ComponentFactory.class);
+    applicationContext.registerBean(
+        Button.class, definition -> definition.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+    applicationContext.refresh();
+
+    componentFactory = applicationContext.getBean(ComponentFactory.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void closeContext() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public Button springPrototypeLookup() {
+    return applicationContext.getBean(Button.class);
+  }
+
+  @Benchmark
+  public Button methodHandleFactory() {
+    return componentFactory.create(Button.class);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(ComponentFactoryBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
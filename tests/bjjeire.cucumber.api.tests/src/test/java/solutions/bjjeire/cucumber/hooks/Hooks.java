@@ -24,6 +24,10 @@ import solutions.bjjeire.api.endpoints.BjjEventEndpoints;
 import solutions.bjjeire.api.endpoints.GymEndpoints;
 import solutions.bjjeire.core.data.events.BjjEvent;
 import solutions.bjjeire.core.data.gyms.Gym;
+import solutions.bjjeire.core.plugins.TestResult;
+import solutions.bjjeire.core.plugins.TimeRecord;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 import solutions.bjjeire.cucumber.context.TestContext;
 
 @RequiredArgsConstructor
@@ -50,6 +54,10 @@ public class Hooks {
 
     currentScenarioId.set(scenarioId);
     startTime.set(System.nanoTime());
+    TestTimings.begin(new TimeRecord());
+    TestTracing.openSpan(
+        "scenario " + scenario.getName(),
+        TestTracing.scenarioAttributes(scenario.getName(), scenario.getSourceTagNames()));
 
     MDC.put("test_id", scenarioId);
     MDC.put("test_name", scenario.getName());
@@ -64,9 +72,14 @@ public class Hooks {
     try {
       // Teardown logic
       MDC.put("test_stage", "teardown");
+      long teardownStart = System.nanoTime();
       performCleanup();
+      TestTimings.recordSince(TestTimings.TEARDOWN, teardownStart);
       logFinalStatus(scenario);
     } finally {
+      TestResult result = scenario.isFailed() ? TestResult.FAILURE : TestResult.SUCCESS;
+      TestTracing.closeSpan(result, null);
+      TestTimings.complete(scenario.getName(), result);
       MDC.clear();
       currentScenarioId.remove();
       startTime.remove();
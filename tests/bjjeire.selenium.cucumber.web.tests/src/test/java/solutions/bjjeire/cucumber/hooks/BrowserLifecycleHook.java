@@ -10,6 +10,7 @@ import solutions.bjjeire.core.plugins.Browser;
 import solutions.bjjeire.core.plugins.BrowserConfiguration;
 import solutions.bjjeire.core.plugins.Lifecycle;
 import solutions.bjjeire.core.plugins.PluginExecutionEngine;
+import solutions.bjjeire.core.plugins.ResourceBlocking;
 import solutions.bjjeire.core.plugins.TestResult;
 import solutions.bjjeire.core.plugins.UsesPlugins;
 import solutions.bjjeire.cucumber.context.ScenarioContext;
@@ -104,6 +105,7 @@ public class BrowserLifecycleHook extends UsesPlugins {
     int width = webSettings.getDefaultBrowserWidth();
     int height = webSettings.getDefaultBrowserHeight();
     String deviceName = null;
+    boolean resourceBlocking = webSettings.getResourceBlocking().isEnabled();
 
     for (String tag : tags) {
       if (tag.startsWith("@Browser:")) {
@@ -122,6 +124,10 @@ public class BrowserLifecycleHook extends UsesPlugins {
         }
       } else if (tag.startsWith("@DeviceName:")) {
         deviceName = tag.substring(12).trim();
+      } else if (tag.startsWith("@ResourceBlocking:")) {
+        resourceBlocking =
+            ResourceBlocking.valueOf(tag.substring(18).trim().toUpperCase())
+                .resolve(resourceBlocking);
       }
     }
 
@@ -133,6 +139,7 @@ public class BrowserLifecycleHook extends UsesPlugins {
     }
 
     config.setTestName(scenario.getName());
+    config.setResourceBlocking(resourceBlocking);
     return config;
   }
 }
@@ -8,6 +8,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
 import org.slf4j.MDC;
+import solutions.bjjeire.core.plugins.TestResult;
+import solutions.bjjeire.core.plugins.TimeRecord;
+import solutions.bjjeire.core.timing.TestTimings;
+import solutions.bjjeire.core.tracing.TestTracing;
 import solutions.bjjeire.selenium.web.services.ScreenshotService;
 
 @Slf4j
@@ -23,6 +27,10 @@ public class ReportingHook {
   public void beforeScenario(Scenario scenario) {
     MDC.put(SCENARIO_ID_KEY, UUID.randomUUID().toString().substring(0, 8));
     MDC.put(SCENARIO_NAME_KEY, scenario.getName());
+    TestTimings.begin(new TimeRecord());
+    TestTracing.openSpan(
+        "scenario " + scenario.getName(),
+        TestTracing.scenarioAttributes(scenario.getName(), scenario.getSourceTagNames()));
 
     log.info(
         "--- SCENARIO START ---",
@@ -48,4 +56,11 @@ public class ReportingHook {
       MDC.clear();
     }
   }
+
+  @After(order = 0)
+  public void closeScenarioSpan(Scenario scenario) {
+    TestResult result = scenario.isFailed() ? TestResult.FAILURE : TestResult.SUCCESS;
+    TestTracing.closeSpan(result, null);
+    TestTimings.complete(scenario.getName(), result);
+  }
 }